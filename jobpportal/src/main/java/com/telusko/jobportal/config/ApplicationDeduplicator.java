@@ -0,0 +1,84 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.Application; // Import Application entity
+import com.telusko.jobportal.service.ApplicationCountService; // Import the application counters
+import jakarta.annotation.PostConstruct; // Import PostConstruct
+import jakarta.persistence.EntityManagerFactory; // Import EntityManagerFactory
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.jdbc.core.JdbcTemplate; // Import JdbcTemplate
+import org.springframework.jdbc.support.JdbcUtils; // Import JdbcUtils
+import org.springframework.stereotype.Component; // Import Component annotation
+
+import javax.sql.DataSource; // Import DataSource
+import java.sql.DatabaseMetaData; // Import DatabaseMetaData
+import java.sql.ResultSet; // Import ResultSet
+import java.util.HashMap; // Import HashMap
+import java.util.HashSet; // Import HashSet
+import java.util.Map; // Import Map
+import java.util.Set; // Import Set
+// --- END OF IMPORT STATEMENTS ---
+
+// One-time migration to one application per (job, applicant)
+// Before the unique constraint existed, double clicks and bots could store the same application many
+// times. ddl-auto=update cannot add the constraint while such rows exist (Hibernate skips it quietly), so
+// on startup this removes the repeats, keeping the oldest row of each pair, adds the constraint if it is
+// missing and rebuilds the application counters. Once the constraint is in place this is a single
+// metadata lookup.
+@Component // Spring manages this as a bean
+public class ApplicationDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationDeduplicator.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationCountService applicationCountService;
+    private final boolean enabled; // portal.startup-tasks.enabled (see StartupConfig)
+
+    // Constructor injection; depending on the EntityManagerFactory makes this run after Hibernate has updated
+    // the schema and before the application writer starts
+    public ApplicationDeduplicator(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                   ApplicationCountService applicationCountService,
+                                   EntityManagerFactory entityManagerFactory,
+                                   @Value("${portal.startup-tasks.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationCountService = applicationCountService;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void enforceOneApplicationPerJob() throws Exception {
+        if (!enabled || hasUniqueJobApplicantIndex()) {
+            return;
+        }
+        // MIN(id) is wrapped in a derived table because MySQL cannot read the table it deletes from
+        int removed = jdbcTemplate.update("DELETE FROM application WHERE id NOT IN " +
+                "(SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM application GROUP BY job_id, applicant_id) kept)");
+        jdbcTemplate.execute("ALTER TABLE application ADD CONSTRAINT " + Application.UNIQUE_JOB_APPLICANT +
+                " UNIQUE (job_id, applicant_id)");
+        log.info("Removed {} duplicate applications and added the {} constraint", removed, Application.UNIQUE_JOB_APPLICANT);
+        if (removed > 0) {
+            applicationCountService.rebuildCounts();
+        }
+    }
+
+    // True if some unique index covers exactly (job_id, applicant_id), whatever the database named it
+    private boolean hasUniqueJobApplicantIndex() throws Exception {
+        return JdbcUtils.extractDatabaseMetaData(dataSource, (DatabaseMetaData metaData) -> {
+            Map<String, Set<String>> columnsByIndex = new HashMap<>();
+            try (ResultSet indexes = metaData.getIndexInfo(metaData.getConnection().getCatalog(), null, "application", true, false)) {
+                while (indexes.next()) {
+                    String index = indexes.getString("INDEX_NAME");
+                    String column = indexes.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columnsByIndex.computeIfAbsent(index, name -> new HashSet<>()).add(column.toLowerCase());
+                    }
+                }
+            }
+            return columnsByIndex.containsValue(Set.of("job_id", "applicant_id"));
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import org.springframework.jdbc.datasource.DelegatingDataSource; // Import DelegatingDataSource
+
+import javax.sql.DataSource; // Import DataSource
+import java.lang.reflect.InvocationTargetException; // Import InvocationTargetException
+import java.lang.reflect.Proxy; // Import Proxy
+import java.sql.Connection; // Import Connection
+import java.sql.SQLException; // Import SQLException
+import java.sql.SQLTransientConnectionException; // Import SQLTransientConnectionException
+import java.util.concurrent.Semaphore; // Import Semaphore
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean; // Import AtomicBoolean
+// --- END OF IMPORT STATEMENTS ---
+
+// DataSource wrapper that lets at most 'permits' connections be checked out at once
+// With virtual threads every request gets its own thread, so thousands of requests can ask the pool for
+// a connection at the same moment. Sized to the pool, the semaphore makes the surplus wait here in a fair
+// FIFO line (parking a virtual thread is cheap) instead of piling into Hikari's hand-off queue and timing
+// out there. The permit is returned when the connection is closed.
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis; // Same meaning as Hikari's connectionTimeout
+
+    public ConnectionLimitingDataSource(DataSource target, int permits, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // Connections currently checked out through this wrapper
+    public int activeConnections() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    // Threads waiting for a permit
+    public int waitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public int maxConnections() {
+        return maxPermits;
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection available within " + acquireTimeoutMillis + " ms (" + maxPermits + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    // Wraps the connection so that the first close() gives the permit back
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    if ("isWrapperFor".equals(method.getName()) && ((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import java.lang.annotation.Documented; // Import Documented
+import java.lang.annotation.ElementType; // Import ElementType
+import java.lang.annotation.Retention; // Import Retention
+import java.lang.annotation.RetentionPolicy; // Import RetentionPolicy
+import java.lang.annotation.Target; // Import Target
+// --- END OF IMPORT STATEMENTS ---
+
+// Marks a controller method parameter of type AuthenticatedUser that should receive the logged-in user
+// Resolved by CurrentUserArgumentResolver from the SecurityContext (no database lookup)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.repository.User; // Import User entity
+import com.telusko.jobportal.repository.UserRepository; // Import UserRepository
+import com.telusko.jobportal.service.AuthenticatedUser; // Import the custom principal
+import org.springframework.core.MethodParameter; // Import MethodParameter
+import org.springframework.security.authentication.AnonymousAuthenticationToken; // Import AnonymousAuthenticationToken
+import org.springframework.security.core.Authentication; // Import Authentication
+import org.springframework.security.core.context.SecurityContextHolder; // Import SecurityContextHolder
+import org.springframework.security.core.userdetails.UsernameNotFoundException; // Import UsernameNotFoundException
+import org.springframework.stereotype.Component; // Import Component annotation
+import org.springframework.web.bind.support.WebDataBinderFactory; // Import WebDataBinderFactory
+import org.springframework.web.context.request.NativeWebRequest; // Import NativeWebRequest
+import org.springframework.web.method.support.HandlerMethodArgumentResolver; // Import HandlerMethodArgumentResolver
+import org.springframework.web.method.support.ModelAndViewContainer; // Import ModelAndViewContainer
+// --- END OF IMPORT STATEMENTS ---
+
+// Supplies @CurrentUser AuthenticatedUser parameters from the SecurityContext
+// The principal was built by CustomUserDetailsService at login and already carries the user id and role,
+// so handlers no longer call userRepository.findByUsername on every request
+@Component // Spring manages this as a bean (registered in WebConfig)
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserRepository userRepository; // Only used for sessions created before the custom principal existed
+
+    // Constructor injection
+    public CurrentUserArgumentResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        // Get the Authentication object from Spring Security's context
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            throw new UsernameNotFoundException("No authenticated user for this request");
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser; // Normal case: no database access
+        }
+        // Fallback for a principal of another type (e.g. a session that logged in before this principal was
+        // introduced): load the user once by name, like the old per-controller helper did
+        String username = authentication.getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("Authenticated user not found in DB: " + username));
+        return new AuthenticatedUser(user.getId(), user.getUsername(), "", user.getRole());
+    }
+}
\ No newline at end of file
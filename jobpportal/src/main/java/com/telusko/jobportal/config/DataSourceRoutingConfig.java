@@ -0,0 +1,110 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.zaxxer.hikari.HikariDataSource; // Import HikariDataSource
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory; // Import the Hikari Micrometer bridge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Qualifier; // Import Qualifier annotation
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties; // Import DataSourceProperties
+import org.springframework.boot.autoconfigure.security.SecurityProperties; // Import SecurityProperties
+import org.springframework.boot.context.properties.ConfigurationProperties; // Import ConfigurationProperties
+import org.springframework.boot.jdbc.DataSourceBuilder; // Import DataSourceBuilder
+import org.springframework.boot.web.servlet.FilterRegistrationBean; // Import FilterRegistrationBean
+import org.springframework.context.annotation.Bean; // Import Bean annotation
+import org.springframework.context.annotation.Configuration; // Import Configuration annotation
+import org.springframework.context.annotation.Primary; // Import Primary annotation
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy; // Import LazyConnectionDataSourceProxy
+import org.springframework.util.StringUtils; // Import StringUtils
+
+import javax.sql.DataSource; // Import DataSource
+import java.util.ArrayList; // Import ArrayList
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Primary/replica routing of database work
+// The DataSource everything uses (Hibernate, Flyway, JdbcTemplate) is a LazyConnectionDataSourceProxy over the
+// primary pool (spring.datasource.*). It fetches the real connection at the first statement, after the
+// transaction manager has marked it read-only or not, so:
+//   - read-only transactions (Spring Data's finders, count(), @Transactional(readOnly = true)) run on a replica
+//   - everything else, including work outside a transaction, runs on the primary
+// Query-cached repository methods are read-write transactions on purpose: the query cache must only be filled
+// from the primary, or a lagging replica's "no such row" would be served until the table changes again.
+// Cache hits fetch no connection at all, so only misses reach the primary.
+// Open-in-view is off (application.properties): each transaction gets its own EntityManager and connection,
+// otherwise a request's first read would pin the replica connection for the writes that follow it.
+//
+// Without portal.read-replicas.urls there is no read-only DataSource and the proxy only defers connection
+// fetching. Decided at runtime rather than with conditions, so AOT-processed builds can switch replicas on.
+@Configuration // Marks this as a configuration class
+public class DataSourceRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    // Bean name of the primary pool (VirtualThreadConfig limits this pool by name)
+    static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+
+    // The primary pool as Spring Boot would build it (spring.datasource.* and spring.datasource.hikari.*)
+    @Bean(PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaDataSource readReplicaDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                       MeterRegistry meterRegistry,
+                                                       @Value("${portal.read-replicas.urls:}") List<String> urls,
+                                                       @Value("${portal.read-replicas.username:${spring.datasource.username:}}") String username,
+                                                       @Value("${portal.read-replicas.password:${spring.datasource.password:}}") String password,
+                                                       @Value("${portal.read-replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                                       @Value("${portal.read-replicas.connection-timeout-ms:1000}") long connectionTimeoutMillis) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            // Pools start on their first connection request, so an unreachable replica does not block startup
+            HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(url.trim()).username(username).password(password).build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeoutMillis); // Fail over quickly instead of queueing reads
+            replica.setReadOnly(true); // A write routed here by mistake fails instead of diverging from the primary
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        if (!replicas.isEmpty()) {
+            log.info("Read-only transactions are routed to {} replica(s)", replicas.size());
+        }
+        return new ReadReplicaDataSource(primary, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary // The DataSource for Hibernate, Flyway and JdbcTemplate
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReadReplicaDataSource replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(primary);
+        if (replicas.hasReplicas()) {
+            dataSource.setReadOnlyDataSource(replicas);
+        }
+        return dataSource;
+    }
+
+    // Keeps a session on the primary right after its own writes; ahead of Spring Security for the login lookup
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            ReadReplicaDataSource replicas, @Value("${portal.read-replicas.read-your-writes-seconds:5}") long windowSeconds) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(windowSeconds * 1000));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setEnabled(replicas.hasReplicas());
+        return registration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration; // Import CaffeineConfiguration
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider; // Import CaffeineCachingProvider
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics; // Import CaffeineCacheMetrics
+import org.hibernate.cache.jcache.ConfigSettings; // Import Hibernate's JCache settings
+import org.hibernate.cache.spi.RegionFactory; // Import RegionFactory (default region names)
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer; // Import HibernatePropertiesCustomizer
+import org.springframework.context.annotation.Bean; // Import Bean annotation
+import org.springframework.context.annotation.Configuration; // Import Configuration annotation
+
+import javax.cache.Cache; // Import JCache Cache
+import javax.cache.CacheManager; // Import JCache CacheManager
+import java.util.OptionalLong; // Import OptionalLong
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+// --- END OF IMPORT STATEMENTS ---
+
+// Hibernate second-level cache for the read-mostly User and Job entities, plus the query cache
+// Every request resolves jobs by id and every login looks the user up by name, but both tables change
+// rarely (registrations, posted jobs, password re-hashes). Hibernate keeps the cached rows consistent for
+// writes it performs itself: saves update or invalidate entries (READ_WRITE soft locks), JPQL bulk statements
+// evict the entity's region, and the update-timestamps region makes query results stale as soon as one
+// of their tables is written. SQL run around Hibernate (JdbcTemplate, another application) is not seen,
+// hence the expire-after-write safety net.
+//
+// Regions live in a local Caffeine JCache manager created here (one per application context, so tests and
+// benchmarks with several contexts do not share entries). Each region is bounded by entry count, evicts
+// least-recently/frequently used entries, and reports cache.gets/puts/evictions/size plus a
+// portal.entity.cache.hit.ratio gauge tagged with the region name.
+@Configuration // Marks this as a configuration class
+public class EntityCacheConfig {
+
+    // Region names used by @Cache on the entities and by the cacheable repository queries
+    public static final String USER_REGION = "user";
+    public static final String JOB_REGION = "job";
+    public static final String USER_QUERY_REGION = "user-queries";
+    public static final String JOB_QUERY_REGION = "job-queries";
+
+    @Bean(destroyMethod = "close") // Closing the provider closes its manager and caches
+    public CaffeineCachingProvider entityCachingProvider() {
+        return new CaffeineCachingProvider(); // Private instance instead of the JVM-wide Caching registry
+    }
+
+    @Bean
+    public CacheManager entityCacheManager(CaffeineCachingProvider entityCachingProvider, MeterRegistry meterRegistry,
+                                           @Value("${portal.entity-cache.user.max-entries:100000}") long userEntries,
+                                           @Value("${portal.entity-cache.job.max-entries:10000}") long jobEntries,
+                                           @Value("${portal.entity-cache.query.max-entries:10000}") long queryEntries,
+                                           @Value("${portal.entity-cache.expire-after-write-minutes:60}") long expireMinutes) {
+        CacheManager cacheManager = entityCachingProvider.getCacheManager(entityCachingProvider.getDefaultURI(),
+                EntityCacheConfig.class.getClassLoader());
+        long expireNanos = TimeUnit.MINUTES.toNanos(expireMinutes);
+        createRegion(cacheManager, meterRegistry, USER_REGION, userEntries, expireNanos);
+        createRegion(cacheManager, meterRegistry, JOB_REGION, jobEntries, expireNanos);
+        createRegion(cacheManager, meterRegistry, USER_QUERY_REGION, queryEntries, expireNanos);
+        createRegion(cacheManager, meterRegistry, JOB_QUERY_REGION, queryEntries, expireNanos);
+        createRegion(cacheManager, meterRegistry, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queryEntries, expireNanos);
+        // One entry per table; evicting or expiring one would let stale query results through, so no bounds
+        createRegion(cacheManager, meterRegistry, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, 0);
+        return cacheManager;
+    }
+
+    // Hands the manager to Hibernate's JCache region factory (missing_cache_strategy=fail: no unbounded
+    // regions are created behind our back)
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheManagerCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    // maxEntries / expireNanos of 0 mean unbounded / never expires
+    private static void createRegion(CacheManager cacheManager, MeterRegistry meterRegistry, String name,
+                                     long maxEntries, long expireNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // Hibernate stores immutable disassembled state, no need to copy it
+        configuration.setNativeStatisticsEnabled(true); // Caffeine's own counters, exported below
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (expireNanos > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireNanos));
+        }
+        Cache<Object, Object> cache = cacheManager.createCache(name, configuration);
+
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine =
+                cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        CaffeineCacheMetrics.monitor(meterRegistry, caffeine, name, "cacheManager", "hibernate");
+        Gauge.builder("portal.entity.cache.hit.ratio", caffeine, c -> c.stats().hitRate())
+                .tag("cache", name).description("Share of second-level cache lookups answered from memory")
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
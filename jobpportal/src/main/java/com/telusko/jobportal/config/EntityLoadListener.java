@@ -0,0 +1,32 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import jakarta.persistence.EntityManagerFactory; // Import EntityManagerFactory
+import org.hibernate.engine.spi.SessionFactoryImplementor; // Import SessionFactoryImplementor
+import org.hibernate.event.service.spi.EventListenerRegistry; // Import EventListenerRegistry
+import org.hibernate.event.spi.EventType; // Import EventType
+import org.hibernate.event.spi.PostLoadEvent; // Import PostLoadEvent
+import org.hibernate.event.spi.PostLoadEventListener; // Import PostLoadEventListener
+import org.springframework.stereotype.Component; // Import Component annotation
+// --- END OF IMPORT STATEMENTS ---
+
+// Counts the entities Hibernate loads (hydrates) during a sampled request
+// DTO projections such as JobSummary do not count, only managed entities do
+@Component // Spring manages this as a bean
+public class EntityLoadListener implements PostLoadEventListener {
+
+    // Registers itself with Hibernate's event system
+    public EntityLoadListener(EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import jakarta.annotation.PostConstruct; // Import PostConstruct
+import jakarta.persistence.EntityManagerFactory; // Import EntityManagerFactory
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.jdbc.core.JdbcTemplate; // Import JdbcTemplate
+import org.springframework.jdbc.support.JdbcUtils; // Import JdbcUtils
+import org.springframework.stereotype.Component; // Import Component annotation
+
+import javax.sql.DataSource; // Import DataSource
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// One-time migration from IDENTITY columns to pooled sequence ids
+// Job, Application and User used to take their ids from AUTO_INCREMENT columns. They now use pooled
+// sequences (allocationSize 50): a real sequence on H2, a one-row table on MySQL, which has no sequences.
+// A freshly created sequence starts at 1 and would hand out ids that existing rows already have, so
+// before anything is inserted each sequence is moved past the highest id in its table. Existing rows
+// keep their ids. Sequences that are already ahead are left alone, so this is a no-op on later starts.
+@Component // Spring manages this as a bean
+public class IdSequenceAligner {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    // Must match the allocationSize of the @SequenceGenerator on each entity
+    private static final int ALLOCATION_SIZE = 50;
+
+    // Table -> sequence used for its ids
+    private static final List<String[]> SEQUENCES = List.of(
+            new String[] {"job", "job_seq"},
+            new String[] {"application", "application_seq"},
+            new String[] {"user", "user_seq"});
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled; // portal.startup-tasks.enabled (see StartupConfig)
+
+    // Constructor injection; depending on the EntityManagerFactory makes this run after Hibernate has created
+    // the sequences (the Flyway migrations run before it) and before any repository can insert
+    public IdSequenceAligner(DataSource dataSource, JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                             @Value("${portal.startup-tasks.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void alignSequences() throws Exception {
+        if (!enabled) {
+            return;
+        }
+        String database = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+        for (String[] sequence : SEQUENCES) {
+            align(database, sequence[0], sequence[1]);
+        }
+    }
+
+    private void align(String database, String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return; // Empty table, any id is free
+        }
+        // The pooled optimizer hands out (value - allocationSize, value], so the next value must clear maxId by a block
+        long next = maxId + ALLOCATION_SIZE + 1;
+        int updated;
+        if ("MySQL".equals(database)) {
+            // Hibernate emulates the sequence with a one-row table holding the next value
+            updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", next, next);
+        } else if ("H2".equals(database)) {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = ?", Long.class, sequence);
+            updated = 0;
+            if (current != null && current < next) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+                updated = 1;
+            }
+        } else {
+            log.warn("Not aligning {} on {}; make sure it is above the highest {} id ({})", sequence, database, table, maxId);
+            return;
+        }
+        if (updated > 0) {
+            log.info("Moved {} past existing {} ids, next value {}", sequence, table, next);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.github.benmanes.caffeine.cache.Cache; // Import Caffeine Cache
+import com.github.benmanes.caffeine.cache.Caffeine; // Import Caffeine builder
+import com.telusko.jobportal.model.JobSummary; // Import the listing projection
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics; // Import CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.stereotype.Component; // Import Component annotation
+import org.thymeleaf.ITemplateEngine; // Import ITemplateEngine
+import org.thymeleaf.context.Context; // Import Context
+import org.thymeleaf.context.IContext; // Import IContext
+import org.thymeleaf.context.IWebContext; // Import IWebContext
+import org.thymeleaf.context.WebContext; // Import WebContext
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext; // Import the evaluation context variable name
+
+import java.util.HashMap; // Import HashMap
+import java.util.Map; // Import Map
+import java.util.Objects; // Import Objects
+import java.util.Set; // Import Set
+// --- END OF IMPORT STATEMENTS ---
+
+// Rendered HTML of the job listing rows, so view-jobs.html does not run the row markup for every job again
+// The template calls render(#ctx, job) for each row: the "job-row" fragment of view-jobs.html is rendered
+// once per job and reused until the job's title or location changes. JobSummary has no version column; its
+// values are the whole input of the fragment, so an entry that still matches them is still correct.
+@Component // Added to the listing model by UserController as "jobRows"
+public class JobRowFragmentCache {
+
+    static final String TEMPLATE = "view-jobs";
+    static final String FRAGMENT = "job-row";
+
+    private final ITemplateEngine templateEngine;
+    private final Cache<Long, Row> rows; // job id -> rendered row (null = caching turned off)
+
+    // Constructor injection
+    public JobRowFragmentCache(ITemplateEngine templateEngine, MeterRegistry meterRegistry,
+                               @Value("${portal.page-cache.job-rows.max-entries:10000}") int maxEntries) {
+        this.templateEngine = templateEngine;
+        if (maxEntries > 0) {
+            this.rows = Caffeine.newBuilder().maximumSize(maxEntries).recordStats().build();
+            CaffeineCacheMetrics.monitor(meterRegistry, rows, "job-rows");
+        } else {
+            this.rows = null;
+        }
+    }
+
+    // HTML of one listing row; 'page' is the context of the page being rendered (request, locale, SpEL setup)
+    public String render(IContext page, JobSummary job) {
+        if (rows == null) {
+            return renderFragment(page, job);
+        }
+        Row row = rows.getIfPresent(job.getId());
+        if (row == null || !row.shows(job)) {
+            row = new Row(job.getTitle(), job.getLocation(), renderFragment(page, job));
+            rows.put(job.getId(), row);
+        }
+        return row.html();
+    }
+
+    private String renderFragment(IContext page, JobSummary job) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("job", job);
+        // Same SpEL evaluation context (bean access, conversion service) as the page
+        Object evaluationContext = page.getVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME);
+        if (evaluationContext != null) {
+            variables.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME, evaluationContext);
+        }
+        IContext context = page instanceof IWebContext web
+                ? new WebContext(web.getExchange(), page.getLocale(), variables) // Links need the request
+                : new Context(page.getLocale(), variables);
+        return templateEngine.process(TEMPLATE, Set.of(FRAGMENT), context);
+    }
+
+    // A rendered row and the values it was rendered from
+    private record Row(String title, String location, String html) {
+
+        boolean shows(JobSummary job) {
+            return Objects.equals(title, job.getTitle()) && Objects.equals(location, job.getLocation());
+        }
+    }
+}
\ No newline at end of file
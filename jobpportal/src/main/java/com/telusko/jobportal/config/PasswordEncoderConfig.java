@@ -1,18 +1,26 @@
 package com.telusko.jobportal.config;
 
 // --- IMPORT STATEMENTS ---
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.telusko.jobportal.service.PasswordHashingService; // Import the pooled BCrypt encoder
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.context.annotation.Bean; // Import Bean annotation
+import org.springframework.context.annotation.Configuration; // Import Configuration annotation
+import org.springframework.security.crypto.password.PasswordEncoder; // Import PasswordEncoder
 // --- END OF IMPORT STATEMENTS ---
 
 // Separate configuration for the PasswordEncoder bean
 @Configuration // Marks this as a configuration class
 public class PasswordEncoderConfig {
 
-    @Bean // Defines BCryptPasswordEncoder as a Spring bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt on a bounded pool of its own (see PasswordHashingService)
+    // hash-threads = 0 means one hashing thread per CPU core
+    @Bean // Defines the hashing service as the PasswordEncoder bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${portal.password.bcrypt-strength:10}") int strength,
+                                           @Value("${portal.password.hash-threads:0}") int threads,
+                                           @Value("${portal.password.hash-queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingService(strength, poolSize, queueCapacity, meterRegistry);
     }
 }
\ No newline at end of file
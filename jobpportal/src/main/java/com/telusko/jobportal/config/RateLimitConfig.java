@@ -0,0 +1,55 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.boot.autoconfigure.security.SecurityProperties; // Import the security filter order
+import org.springframework.boot.web.servlet.FilterRegistrationBean; // Import FilterRegistrationBean
+import org.springframework.context.annotation.Bean; // Import Bean annotation
+import org.springframework.context.annotation.Configuration; // Import Configuration annotation
+
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Rate limit policies for the endpoints that hash passwords or write per request (see RateLimitFilter)
+// Limits are "capacity" requests in a burst, refilled at "per-minute", per key of the policy.
+@Configuration // Mark this as a configuration class
+public class RateLimitConfig {
+
+    // Ahead of Spring Security (and of the read-your-writes filter): refused requests never reach the
+    // security context, the user lookup or BCrypt
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${portal.rate-limit.enabled:true}") boolean enabled,
+            @Value("${portal.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${portal.rate-limit.login.per-ip.capacity:30}") int loginIpCapacity,
+            @Value("${portal.rate-limit.login.per-ip.per-minute:30}") int loginIpPerMinute,
+            @Value("${portal.rate-limit.login.per-username.capacity:10}") int loginUsernameCapacity,
+            @Value("${portal.rate-limit.login.per-username.per-minute:10}") int loginUsernamePerMinute,
+            @Value("${portal.rate-limit.register.per-ip.capacity:10}") int registerIpCapacity,
+            @Value("${portal.rate-limit.register.per-ip.per-minute:10}") int registerIpPerMinute,
+            @Value("${portal.rate-limit.apply.per-ip.capacity:120}") int applyIpCapacity,
+            @Value("${portal.rate-limit.apply.per-ip.per-minute:120}") int applyIpPerMinute,
+            @Value("${portal.rate-limit.apply.per-user.capacity:10}") int applyUserCapacity,
+            @Value("${portal.rate-limit.apply.per-user.per-minute:30}") int applyUserPerMinute) {
+        List<RateLimitFilter.Policy> policies = List.of(
+                new RateLimitFilter.Policy("login-ip", "POST", "/do-login", RateLimitFilter::clientIp,
+                        new RateLimiter(loginIpCapacity, loginIpPerMinute, maxKeys)),
+                new RateLimitFilter.Policy("login-username", "POST", "/do-login", RateLimitFilter::submittedUsername,
+                        new RateLimiter(loginUsernameCapacity, loginUsernamePerMinute, maxKeys)),
+                // Both registration forms share one bucket per IP
+                new RateLimitFilter.Policy("register-ip", "POST", List.of("/register-user", "/register-admin"),
+                        RateLimitFilter::clientIp, new RateLimiter(registerIpCapacity, registerIpPerMinute, maxKeys)),
+                new RateLimitFilter.Policy("apply-ip", "POST", "/user/apply/*", RateLimitFilter::clientIp,
+                        new RateLimiter(applyIpCapacity, applyIpPerMinute, maxKeys)),
+                new RateLimitFilter.Policy("apply-user", "POST", "/user/apply/*", RateLimitFilter::sessionUser,
+                        new RateLimiter(applyUserCapacity, applyUserPerMinute, maxKeys)));
+
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(policies, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
\ No newline at end of file
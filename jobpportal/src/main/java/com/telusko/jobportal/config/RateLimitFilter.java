@@ -0,0 +1,130 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import io.micrometer.core.instrument.Counter; // Import Counter
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import jakarta.servlet.FilterChain; // Import FilterChain
+import jakarta.servlet.ServletException; // Import ServletException
+import jakarta.servlet.http.HttpServletRequest; // Import HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
+import jakarta.servlet.http.HttpSession; // Import HttpSession
+import org.springframework.http.HttpStatus; // Import HttpStatus
+import org.springframework.http.MediaType; // Import MediaType
+import org.springframework.security.core.context.SecurityContext; // Import SecurityContext
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository; // Import the session attribute name
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher; // Import AntPathRequestMatcher
+import org.springframework.security.web.util.matcher.OrRequestMatcher; // Import OrRequestMatcher
+import org.springframework.security.web.util.matcher.RequestMatcher; // Import RequestMatcher
+import org.springframework.web.filter.OncePerRequestFilter; // Import OncePerRequestFilter
+
+import java.io.IOException; // Import IOException
+import java.util.List; // Import List
+import java.util.Locale; // Import Locale
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+import java.util.function.Function; // Import Function
+// --- END OF IMPORT STATEMENTS ---
+
+// Throttles the endpoints that cost BCrypt work or database lookups per request (login, registration, apply)
+// Registered ahead of the Spring Security filter chain (see RateLimitConfig): a refused request is answered
+// with 429 + Retry-After before a session's security context is restored, a user is looked up or a password
+// is hashed. Each Policy has its own token buckets (RateLimiter) keyed by client IP, by the username a login
+// is attempted for, or by the logged-in user. Policies are checked in order and the first refusal wins, so
+// per-IP policies go first: they keep a single client from creating username keys at will.
+//
+// The client IP is request.getRemoteAddr(). Behind a reverse proxy set server.forward-headers-strategy so
+// the container resolves it from X-Forwarded-For (the header itself is never trusted here).
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<Policy> policies;
+
+    public RateLimitFilter(List<Policy> policies, MeterRegistry meterRegistry) {
+        this.policies = List.copyOf(policies);
+        for (Policy policy : this.policies) {
+            policy.rejected = Counter.builder("portal.rate-limit.rejected").tag("policy", policy.name)
+                    .description("Requests refused with 429 by a rate limit policy").register(meterRegistry);
+            Gauge.builder("portal.rate-limit.keys", policy.limiter, RateLimiter::size).tag("policy", policy.name)
+                    .description("Keys with a token bucket in a rate limit policy").register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        for (Policy policy : policies) {
+            if (!policy.matcher.matches(request)) {
+                continue;
+            }
+            String key = policy.key.apply(request);
+            if (key == null) {
+                continue; // Nothing to key on (e.g. no username submitted), the other policies still apply
+            }
+            long waitNanos = policy.limiter.tryAcquire(key);
+            if (waitNanos != RateLimiter.ALLOWED) {
+                policy.rejected.increment();
+                tooManyRequests(response, waitNanos);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static void tooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("Too many requests. Please try again in " + retryAfterSeconds + " seconds.");
+    }
+
+    // --- Keys ---
+
+    // Client address
+    public static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    // Username submitted with a login form, lower-cased (MySQL's default collation matches usernames case-insensitively)
+    public static String submittedUsername(HttpServletRequest request) {
+        String username = request.getParameter("username");
+        return (username == null || username.isBlank()) ? null : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Logged-in user, read from the security context stored in the session (the security chain has not run yet)
+    // Falls back to the client IP for requests without one; the security chain turns those away anyway
+    public static String sessionUser(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object context = session == null ? null
+                : session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        if (context instanceof SecurityContext securityContext && securityContext.getAuthentication() != null) {
+            return securityContext.getAuthentication().getName();
+        }
+        return clientIp(request);
+    }
+
+    // A rate limit for the requests matching one method and any of its path patterns
+    public static final class Policy {
+
+        private final String name; // Metric tag, e.g. "login-ip"
+        private final RequestMatcher matcher;
+        private final Function<HttpServletRequest, String> key; // Bucket key of a request (null = not limited)
+        private final RateLimiter limiter;
+        private Counter rejected; // Set when the filter registers its meters
+
+        public Policy(String name, String method, String pattern, Function<HttpServletRequest, String> key,
+                      RateLimiter limiter) {
+            this(name, method, List.of(pattern), key, limiter);
+        }
+
+        // Requests to all the patterns draw from the same buckets
+        public Policy(String name, String method, List<String> patterns, Function<HttpServletRequest, String> key,
+                      RateLimiter limiter) {
+            this.name = name;
+            this.matcher = new OrRequestMatcher(patterns.stream()
+                    .map(pattern -> (RequestMatcher) new AntPathRequestMatcher(pattern, method)).toList());
+            this.key = key;
+            this.limiter = limiter;
+        }
+    }
+}
\ No newline at end of file
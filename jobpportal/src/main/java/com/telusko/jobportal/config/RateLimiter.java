@@ -0,0 +1,101 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import java.util.concurrent.ConcurrentHashMap; // Import ConcurrentHashMap
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean; // Import AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong; // Import AtomicLong
+import java.util.function.LongSupplier; // Import LongSupplier
+// --- END OF IMPORT STATEMENTS ---
+
+// Token bucket per key ('capacity' requests in a burst, refilled at 'perMinute'), without locks
+// Plain class (not a Spring bean): RateLimitFilter holds one per policy.
+//
+// Each bucket is a single AtomicLong in the GCRA form of a token bucket: instead of a token count and a
+// refill time it stores the "theoretical arrival time" (TAT), the moment the bucket will be full again.
+// A request is allowed when TAT - now leaves room for one more emission interval within the burst, and
+// takes its token with one compareAndSet (TAT += interval). No refill timer, no lock, 8 bytes of state.
+//
+// A bucket whose TAT has passed is full, which is exactly what a missing bucket means, so idle keys can be
+// dropped at any time without changing any answer. Sweeps do that at most once per sweep interval, from
+// whichever request comes along; 'maxKeys' bounds the table, and when it is full even after a sweep new
+// keys are refused (known keys keep their own buckets).
+public class RateLimiter {
+
+    // Returned by tryAcquire when the request may proceed
+    public static final long ALLOWED = 0;
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final long intervalNanos; // Time to earn one token
+    private final long burstNanos; // TAT may run ahead of now by this much (capacity - 1 intervals)
+    private final int maxKeys;
+    private final LongSupplier clock; // Nanosecond clock (System::nanoTime outside tests)
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>(); // key -> TAT
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long nextSweep;
+
+    public RateLimiter(int capacity, int perMinute, int maxKeys) {
+        this(capacity, perMinute, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, int perMinute, int maxKeys, LongSupplier clock) {
+        if (capacity < 1 || perMinute < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("capacity, perMinute and maxKeys must be positive");
+        }
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+        this.burstNanos = intervalNanos * (capacity - 1);
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+        this.nextSweep = clock.getAsLong() + SWEEP_INTERVAL_NANOS;
+    }
+
+    // Takes a token from the key's bucket
+    // Returns ALLOWED, or the nanoseconds until a token will be available (the request must be refused)
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        if (now - nextSweep >= 0) {
+            sweep(now);
+        }
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(now);
+                if (buckets.size() >= maxKeys) {
+                    return intervalNanos; // Table full of active keys: refuse newcomers instead of growing
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now; // An idle bucket starts from now (full)
+            long wait = start - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // Drops the buckets that are full again (TAT in the past); one sweeping thread at a time
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            nextSweep = now + SWEEP_INTERVAL_NANOS;
+            // A bucket removed while another thread takes a token from it lets that key have one token extra
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.zaxxer.hikari.HikariDataSource; // Import HikariDataSource
+import io.micrometer.core.instrument.Counter; // Import Counter
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.jdbc.datasource.AbstractDataSource; // Import AbstractDataSource
+
+import javax.sql.DataSource; // Import DataSource
+import java.io.Closeable; // Import Closeable
+import java.sql.Connection; // Import Connection
+import java.sql.SQLException; // Import SQLException
+import java.sql.SQLFeatureNotSupportedException; // Import SQLFeatureNotSupportedException
+import java.util.List; // Import List
+import java.util.concurrent.atomic.AtomicInteger; // Import AtomicInteger
+import java.util.function.Function; // Import Function
+import java.util.function.Supplier; // Import Supplier
+// --- END OF IMPORT STATEMENTS ---
+
+// Read-only side of the primary/replica routing (see DataSourceRoutingConfig)
+// The LazyConnectionDataSourceProxy in front of the primary asks this DataSource for the connection of a
+// read-only transaction when it runs its first statement. Replicas take turns; a replica that cannot hand out a
+// connection within its (short) timeout is skipped. The primary serves the read when every replica failed, and
+// for threads pinned to it: requests inside their session's read-your-writes window (ReadYourWritesFilter).
+public class ReadReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaDataSource.class);
+
+    // Set for the duration of a request that must see its session's own recent writes
+    private static final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private volatile List<DataSource> connectionSources; // Per replica: the pool, or a limiter in front of it
+    private final AtomicInteger next = new AtomicInteger(); // Round-robin position
+
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter failedOverReads;
+
+    public ReadReplicaDataSource(DataSource primary, List<HikariDataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.connectionSources = List.copyOf(replicas);
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.pinnedReads = readCounter(meterRegistry, "primary-read-your-writes");
+        this.failedOverReads = readCounter(meterRegistry, "primary-failover");
+    }
+
+    // Routes read-only work on the current thread to the primary until unpin() (always call it in a finally block)
+    public static void pinToPrimary() {
+        pinnedToPrimary.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        pinnedToPrimary.remove();
+    }
+
+    // Runs read-only work on the primary, e.g. to look again for a row a replica has not received yet
+    // Must be called outside a transaction (the transaction's connection is fetched inside); nests within a pin
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (pinnedToPrimary.get() != null) {
+            return work.get();
+        }
+        pinToPrimary();
+        try {
+            return work.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    // Puts a wrapper in front of each replica pool (VirtualThreadConfig: one connection limit per pool)
+    // Called while the bean is initialized, before any connection is requested
+    public void limitConnections(Function<HikariDataSource, DataSource> limiter) {
+        connectionSources = replicas.stream().map(limiter).toList();
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+        if (pinnedToPrimary.get() != null) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+        List<DataSource> sources = connectionSources;
+        int first = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (first + i) % replicas.size();
+            HikariDataSource replica = replicas.get(index);
+            try {
+                Connection connection = sources.get(index).getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Replica {} unavailable, trying the next one: {}", replica.getPoolName(), e.getMessage());
+            }
+        }
+        failedOverReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("portal.datasource.read-only.connections").tag("target", target)
+                .description("Connections handed to read-only transactions").register(meterRegistry);
+    }
+}
\ No newline at end of file
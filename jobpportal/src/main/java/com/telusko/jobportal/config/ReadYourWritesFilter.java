@@ -0,0 +1,57 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import jakarta.servlet.FilterChain; // Import FilterChain
+import jakarta.servlet.ServletException; // Import ServletException
+import jakarta.servlet.http.HttpServletRequest; // Import HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
+import jakarta.servlet.http.HttpSession; // Import HttpSession
+import org.springframework.web.filter.OncePerRequestFilter; // Import OncePerRequestFilter
+
+import java.io.IOException; // Import IOException
+import java.util.Set; // Import Set
+// --- END OF IMPORT STATEMENTS ---
+
+// Read-your-writes window for the replica routing (see DataSourceRoutingConfig)
+// Replicas lag the primary a little, so right after a session has written something (applied for a job, posted
+// a job, registered, logged in) its next pages could miss the change. A successful POST/PUT/PATCH/DELETE stamps
+// the session; for 'windowMillis' afterwards that session's requests read from the primary.
+// Runs before Spring Security, so the login that follows a registration also sees the new user.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    // Session attribute: time of the session's last successful write request (epoch millis)
+    static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".lastWrite";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpSession session = request.getSession(false); // Never creates one, anonymous GETs stay sessionless
+        Long lastWrite = session != null ? (Long) session.getAttribute(LAST_WRITE_ATTRIBUTE) : null;
+        boolean pinned = lastWrite != null && System.currentTimeMillis() - lastWrite < windowMillis;
+        if (pinned) {
+            ReadReplicaDataSource.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReadReplicaDataSource.unpin();
+            }
+        }
+
+        if (!SAFE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+            session = request.getSession(false); // Login replaces the session id, the attributes move with it
+            if (session != null) {
+                session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import io.micrometer.core.instrument.DistributionSummary; // Import DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import io.micrometer.core.instrument.Timer; // Import Timer
+import jakarta.servlet.http.HttpServletRequest; // Import HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.stereotype.Component; // Import Component annotation
+import org.springframework.web.method.HandlerMethod; // Import HandlerMethod
+import org.springframework.web.servlet.AsyncHandlerInterceptor; // Import AsyncHandlerInterceptor
+import org.springframework.web.servlet.ModelAndView; // Import ModelAndView
+
+import java.util.Map; // Import Map
+import java.util.concurrent.ConcurrentHashMap; // Import ConcurrentHashMap
+import java.util.concurrent.ThreadLocalRandom; // Import ThreadLocalRandom
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+// --- END OF IMPORT STATEMENTS ---
+
+// Per-handler performance metrics, exposed at /actuator/metrics (admins only)
+// For each controller method ("handler" tag, e.g. UserController.viewAllJobs) a sampled request records:
+//   portal.request.latency         - handler + view rendering time (with percentile histogram)
+//   portal.request.render          - template rendering time (requests that render a view)
+//   portal.request.sql.statements  - JDBC statements executed (incl. batches)
+//   portal.request.sql.time        - time spent executing them
+//   portal.request.entities.loaded - entities Hibernate hydrated
+// 'portal.metrics.request-sample-rate' picks the share of requests measured; at 0 the interceptor returns
+// straight away and the Hibernate listeners find no RequestStats, so the cost is a ThreadLocal read.
+@Component // Spring manages this as a bean
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final Map<HandlerMethod, HandlerMeters> meters = new ConcurrentHashMap<>();
+
+    // Constructor injection
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry,
+                                     @Value("${portal.metrics.request-sample-rate:1.0}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (sampleRate <= 0 || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        if (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            RequestStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        RequestStats stats = RequestStats.current();
+        if (stats != null && modelAndView != null && modelAndView.hasView()) {
+            stats.handlerEndNanos = System.nanoTime(); // Rendering starts after this
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStats stats = RequestStats.current();
+        if (stats == null) {
+            return;
+        }
+        RequestStats.end();
+        long now = System.nanoTime();
+        HandlerMeters handlerMeters = meters.computeIfAbsent((HandlerMethod) handler, this::createMeters);
+        handlerMeters.latency.record(now - stats.startNanos, TimeUnit.NANOSECONDS);
+        if (stats.handlerEndNanos != 0) {
+            handlerMeters.render.record(now - stats.handlerEndNanos, TimeUnit.NANOSECONDS);
+        }
+        handlerMeters.sqlStatements.record(stats.sqlStatements);
+        handlerMeters.sqlTime.record(stats.sqlNanos, TimeUnit.NANOSECONDS);
+        handlerMeters.entitiesLoaded.record(stats.entitiesLoaded);
+    }
+
+    // Async handlers (e.g. streaming exports) finish on another thread, afterCompletion is not called for
+    // this dispatch; drop the stats so they do not leak into the next request on this thread
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestStats.end();
+    }
+
+    private HandlerMeters createMeters(HandlerMethod handlerMethod) {
+        String handler = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        return new HandlerMeters(
+                Timer.builder("portal.request.latency").tag("handler", handler)
+                        .publishPercentileHistogram().register(meterRegistry),
+                Timer.builder("portal.request.render").tag("handler", handler).register(meterRegistry),
+                DistributionSummary.builder("portal.request.sql.statements").tag("handler", handler).register(meterRegistry),
+                Timer.builder("portal.request.sql.time").tag("handler", handler).register(meterRegistry),
+                DistributionSummary.builder("portal.request.entities.loaded").tag("handler", handler).register(meterRegistry));
+    }
+
+    // Meters of one handler, looked up once and cached
+    private record HandlerMeters(Timer latency, Timer render, DistributionSummary sqlStatements, Timer sqlTime,
+                                 DistributionSummary entitiesLoaded) {
+    }
+}
\ No newline at end of file
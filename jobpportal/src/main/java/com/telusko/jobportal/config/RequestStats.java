@@ -0,0 +1,50 @@
+package com.telusko.jobportal.config;
+
+// Per-request counters filled in by the Hibernate listeners while a sampled request is being handled
+// Lives in a ThreadLocal for the duration of the request (see RequestMetricsInterceptor); when the request
+// is not sampled there is no instance and the listeners return after a single ThreadLocal read.
+public final class RequestStats {
+
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>();
+
+    final long startNanos = System.nanoTime();
+    long handlerEndNanos; // Set in postHandle, i.e. just before the view is rendered (0 = no view)
+    int sqlStatements;
+    long sqlNanos;
+    int entitiesLoaded;
+    private long statementStartNanos;
+
+    private RequestStats() {
+    }
+
+    // The stats of the request running on this thread, or null when it is not sampled
+    public static RequestStats current() {
+        return CURRENT.get();
+    }
+
+    static RequestStats begin() {
+        RequestStats stats = new RequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void statementStarted() {
+        statementStartNanos = System.nanoTime();
+    }
+
+    void statementFinished() {
+        sqlStatements++;
+        if (statementStartNanos != 0) {
+            sqlNanos += System.nanoTime() - statementStartNanos;
+            statementStartNanos = 0;
+        }
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+}
\ No newline at end of file
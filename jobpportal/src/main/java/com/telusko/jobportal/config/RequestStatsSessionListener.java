@@ -0,0 +1,37 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import org.hibernate.SessionEventListener; // Import SessionEventListener
+// --- END OF IMPORT STATEMENTS ---
+
+// Counts and times the JDBC statements of sampled requests
+// Hibernate creates one instance per session (registered through 'hibernate.session.events.auto' in
+// application.properties), so it must stay public with a no-arg constructor
+public class RequestStatsSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.statementFinished();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.telusko.jobportal.config;
 // --- IMPORT STATEMENTS ---
 import com.telusko.jobportal.model.Role; // Import your Role enum
 import com.telusko.jobportal.service.CustomUserDetailsService; // Import your UserDetailsService
+import com.telusko.jobportal.service.PasswordHashingBusyException; // Import the hashing pool overload exception
 import org.springframework.context.annotation.Bean; // Import
 import org.springframework.context.annotation.Configuration; // Import
 import org.springframework.http.HttpMethod; // Import HttpMethod (if used for specific matchers)
@@ -11,10 +12,17 @@ import org.springframework.security.authentication.ProviderManager; // Import
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider; // Import
 import org.springframework.security.config.annotation.web.builders.HttpSecurity; // Import
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity; // Import
+import org.springframework.security.core.AuthenticationException; // Import
 import org.springframework.security.crypto.password.PasswordEncoder; // Import
 import org.springframework.security.web.SecurityFilterChain; // Import
+import org.springframework.security.web.authentication.AuthenticationFailureHandler; // Import failure handler interface
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler; // Import handler interface
+import org.springframework.security.web.authentication.DelegatingAuthenticationFailureHandler; // Import
+import org.springframework.security.web.authentication.ForwardAuthenticationFailureHandler; // Import
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler; // Import
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher; // Import for logout matcher
+
+import java.util.LinkedHashMap; // Import LinkedHashMap
 // --- END OF IMPORT STATEMENTS ---
 
 
@@ -35,6 +43,9 @@ public class SecurityConfig {
     private static final String LOGIN_FAILURE_URL = "/login-user?error";
 
 
+    // Served with 503 + Retry-After when a login cannot be checked right now (see ServiceBusyAdvice)
+    private static final String BUSY_URL = "/busy";
+
     private static final String LOGOUT_URL = "/logout"; // URL for logout POST request
     private static final String LOGOUT_SUCCESS_URL = "/"; // Redirect after successful logout (home page)
 
@@ -63,6 +74,11 @@ public class SecurityConfig {
                         // Permit access to the login pages (GET) and the COMMON processing URL (POST)
                         // Spring Security's formLogin handles the actual authentication processing at the COMMON URL
                         .requestMatchers(ADMIN_LOGIN_PAGE, USER_LOGIN_PAGE, COMMON_LOGIN_PROCESSING_URL).permitAll()
+                        // Overload page (login forwards here when the password hashing pool is full)
+                        .requestMatchers(BUSY_URL).permitAll()
+                        // Health checks are public (load balancer probes), other actuator endpoints are for admins
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Require ADMIN role for any URL starting with /admin/
                         // hasRole("ADMIN") automatically checks for authority "ROLE_ADMIN" provided by UserDetails
@@ -84,8 +100,8 @@ public class SecurityConfig {
                         .loginProcessingUrl(COMMON_LOGIN_PROCESSING_URL)
                         // *** Use the custom success handler to determine the redirect based on role AFTER successful authentication ***
                         .successHandler(customAuthenticationSuccessHandler)
-                        // Redirect URL on authentication FAILURE
-                        .failureUrl(LOGIN_FAILURE_URL)
+                        // Redirect URL on authentication FAILURE (503 page when the hashing pool is full)
+                        .failureHandler(loginFailureHandler())
                         .permitAll() // IMPORTANT: Allow everyone to access the configured login page(s) and the processing URL
                 )
                 // --- Logout Configuration ---
@@ -104,12 +120,20 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Wrong credentials go back to the login page; an overloaded hashing pool gets the 503 busy page instead
+    private AuthenticationFailureHandler loginFailureHandler() {
+        LinkedHashMap<Class<? extends AuthenticationException>, AuthenticationFailureHandler> handlers = new LinkedHashMap<>();
+        handlers.put(PasswordHashingBusyException.class, new ForwardAuthenticationFailureHandler(BUSY_URL));
+        return new DelegatingAuthenticationFailureHandler(handlers, new SimpleUrlAuthenticationFailureHandler(LOGIN_FAILURE_URL));
+    }
+
     // Authentication Manager bean - tells Spring Security how to authenticate users
-    // Remains the same, uses your CustomUserDetailsService and PasswordEncoder
+    // Uses your CustomUserDetailsService and PasswordEncoder; outdated hashes are re-encoded on login
     @Bean
     public AuthenticationManager authenticationManager() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(customUserDetailsService); // Use your service to load users
+        provider.setUserDetailsPasswordService(customUserDetailsService); // Store re-encoded hashes after a cost change
         provider.setPasswordEncoder(passwordEncoder); // Use your password encoder
         return new ProviderManager(provider); // Manages authentication providers
     }
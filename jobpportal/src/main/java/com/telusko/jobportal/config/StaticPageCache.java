@@ -0,0 +1,189 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.github.benmanes.caffeine.cache.Cache; // Import Caffeine Cache
+import com.github.benmanes.caffeine.cache.Caffeine; // Import Caffeine builder
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics; // Import CaffeineCacheMetrics
+import jakarta.servlet.http.HttpServletRequest; // Import HttpServletRequest
+import jakarta.servlet.http.HttpServletRequestWrapper; // Import HttpServletRequestWrapper
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
+import jakarta.servlet.http.HttpServletResponseWrapper; // Import HttpServletResponseWrapper
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication; // Import ConditionalOnWebApplication
+import org.springframework.core.Ordered; // Import Ordered
+import org.springframework.security.authentication.AuthenticationTrustResolver; // Import AuthenticationTrustResolver
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl; // Import AuthenticationTrustResolverImpl
+import org.springframework.security.core.Authentication; // Import Authentication
+import org.springframework.security.core.context.SecurityContextHolder; // Import SecurityContextHolder
+import org.springframework.security.web.csrf.CsrfToken; // Import CsrfToken
+import org.springframework.security.web.csrf.DefaultCsrfToken; // Import DefaultCsrfToken
+import org.springframework.stereotype.Component; // Import Component annotation
+import org.springframework.web.servlet.View; // Import View
+import org.springframework.web.servlet.ViewResolver; // Import ViewResolver
+import org.thymeleaf.spring6.view.ThymeleafViewResolver; // Import ThymeleafViewResolver
+
+import java.io.CharArrayWriter; // Import CharArrayWriter
+import java.io.IOException; // Import IOException
+import java.io.PrintWriter; // Import PrintWriter
+import java.util.List; // Import List
+import java.util.Locale; // Import Locale
+import java.util.Map; // Import Map
+import java.util.Set; // Import Set
+import java.util.TreeMap; // Import TreeMap
+import java.util.UUID; // Import UUID
+import java.util.regex.Pattern; // Import Pattern
+// --- END OF IMPORT STATEMENTS ---
+
+// Serves the static pages (home, login forms) from rendered HTML instead of running Thymeleaf per request
+// Resolves the view names in 'portal.page-cache.views' ahead of ThymeleafViewResolver and wraps the Thymeleaf
+// view. A page is rendered once per locale and model (the controllers only put fixed messages such as
+// "registration successful" in it) and then stored with a placeholder where the CSRF token goes: the
+// session's token is filled in on every response, both in the explicit _csrf inputs and in the ones
+// Thymeleaf adds to th:action forms.
+//
+// Only visitors who are not logged in are served from the cache; index.html shows the user's name and
+// links by role once they are, so logged-in users get the page rendered as before. The listed views must
+// not read anything else from the request (parameters, session) in their templates.
+@Component // Ordered ahead of the Thymeleaf resolver (see getOrder)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // No views without Spring MVC
+public class StaticPageCache implements ViewResolver, Ordered {
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final ThymeleafViewResolver thymeleafViewResolver;
+    private final Set<String> viewNames;
+    private final boolean enabled;
+    private final Cache<String, Page> pages; // view|locale|model -> rendered page
+
+    // Stands in for the CSRF token while a page is rendered; letters and digits only, so HTML escaping keeps it
+    private final String csrfPlaceholder = "csrf" + UUID.randomUUID().toString().replace("-", "");
+
+    // Constructor injection
+    public StaticPageCache(ThymeleafViewResolver thymeleafViewResolver, MeterRegistry meterRegistry,
+                           @Value("${portal.page-cache.views:index,login-user,login-admin}") List<String> viewNames,
+                           @Value("${portal.page-cache.max-entries:256}") int maxEntries,
+                           @Value("${portal.page-cache.enabled:${spring.thymeleaf.cache:true}}") boolean enabled) {
+        this.thymeleafViewResolver = thymeleafViewResolver;
+        this.viewNames = Set.copyOf(viewNames);
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder().maximumSize(maxEntries).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "static-pages");
+    }
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) throws Exception {
+        if (!enabled || !viewNames.contains(viewName)) {
+            return null; // Left to the next resolver
+        }
+        View view = thymeleafViewResolver.resolveViewName(viewName, locale);
+        return view == null ? null : new CachedPageView(viewName + '|' + locale, view);
+    }
+
+    @Override
+    public int getOrder() {
+        return thymeleafViewResolver.getOrder() - 1;
+    }
+
+    public long size() {
+        return pages.estimatedSize();
+    }
+
+    // Model values the page key can be built from (anything else is rendered without the cache)
+    private static boolean isSimple(Object value) {
+        return value == null || value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || TRUST_RESOLVER.isAnonymous(authentication);
+    }
+
+    // A rendered page: the HTML split at the CSRF placeholders
+    private record Page(String contentType, String[] parts) {
+
+        void write(HttpServletResponse response, String csrfToken) throws IOException {
+            response.setContentType(contentType);
+            PrintWriter writer = response.getWriter();
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    writer.write(csrfToken);
+                }
+                writer.write(parts[i]);
+            }
+        }
+    }
+
+    private final class CachedPageView implements View {
+
+        private final String keyPrefix; // view|locale
+        private final View delegate; // The Thymeleaf view, used for misses and uncacheable requests
+
+        private CachedPageView(String keyPrefix, View delegate) {
+            this.keyPrefix = keyPrefix;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getContentType() {
+            return delegate.getContentType();
+        }
+
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response)
+                throws Exception {
+            CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+            String key = key(model);
+            if (csrfToken == null || key == null || !isAnonymous()) {
+                delegate.render(model, request, response);
+                return;
+            }
+            Page page = pages.getIfPresent(key);
+            if (page == null) {
+                page = renderPage(model, request, response, csrfToken);
+                pages.put(key, page);
+            }
+            page.write(response, csrfToken.getToken());
+        }
+
+        // view|locale|sorted model, or null when the model holds anything but plain values
+        private String key(Map<String, ?> model) {
+            StringBuilder key = new StringBuilder(keyPrefix);
+            for (Map.Entry<String, ?> entry : new TreeMap<>(model == null ? Map.of() : model).entrySet()) {
+                if (!isSimple(entry.getValue())) {
+                    return null;
+                }
+                key.append('|').append(entry.getKey()).append('=').append(entry.getValue());
+            }
+            return key.toString();
+        }
+
+        // Renders the Thymeleaf view into a buffer, with the placeholder as the request's CSRF token
+        private Page renderPage(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response,
+                                CsrfToken csrfToken) throws Exception {
+            CsrfToken placeholder = new DefaultCsrfToken(csrfToken.getHeaderName(), csrfToken.getParameterName(),
+                    csrfPlaceholder);
+            HttpServletRequest placeholderRequest = new HttpServletRequestWrapper(request) {
+                @Override
+                public Object getAttribute(String name) {
+                    if (name.equals(CsrfToken.class.getName()) || name.equals(csrfToken.getParameterName())) {
+                        return placeholder; // Read by ${_csrf} and by Spring Security's RequestDataValueProcessor
+                    }
+                    return super.getAttribute(name);
+                }
+            };
+            CharArrayWriter html = new CharArrayWriter();
+            PrintWriter writer = new PrintWriter(html);
+            HttpServletResponseWrapper bufferedResponse = new HttpServletResponseWrapper(response) {
+                @Override
+                public PrintWriter getWriter() {
+                    return writer;
+                }
+            };
+            delegate.render(model, placeholderRequest, bufferedResponse);
+            writer.flush();
+            return new Page(bufferedResponse.getContentType(),
+                    html.toString().split(Pattern.quote(csrfPlaceholder), -1));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import com.zaxxer.hikari.HikariDataSource; // Import HikariDataSource
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.ObjectProvider; // Import ObjectProvider
+import org.springframework.beans.factory.config.BeanPostProcessor; // Import BeanPostProcessor
+import org.springframework.boot.autoconfigure.condition.ConditionalOnJava; // Import ConditionalOnJava
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // Import ConditionalOnProperty
+import org.springframework.boot.system.JavaVersion; // Import JavaVersion
+import org.springframework.context.annotation.Bean; // Import Bean annotation
+import org.springframework.context.annotation.Configuration; // Import Configuration annotation
+
+import javax.sql.DataSource; // Import DataSource
+// --- END OF IMPORT STATEMENTS ---
+
+// Opt-in virtual-thread execution mode
+// Setting spring.threads.virtual.enabled=true (Java 21+ runtime) makes Spring Boot run Tomcat requests and
+// the application task executor on virtual threads. Request handlers mostly block on JDBC, so instead of
+// a fixed pool of 200 platform threads every request gets its own cheap thread. The connection pools are
+// then the real limit, so each one is wrapped in a ConnectionLimitingDataSource sized to it: the primary
+// pool, and every read replica pool with its own limit (see ReadReplicaDataSource).
+// On a Java 17 runtime Spring Boot ignores the property and keeps platform threads, so nothing is wrapped.
+@Configuration // Marks this as a configuration class
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@ConditionalOnJava(JavaVersion.TWENTY_ONE) // Virtual threads are only used on Java 21+
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Static: post-processors are created before the other beans
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && DataSourceRoutingConfig.PRIMARY_DATA_SOURCE.equals(beanName)) {
+                    return limit(beanName, hikari, meterRegistry);
+                }
+                if (bean instanceof ReadReplicaDataSource replicas) {
+                    replicas.limitConnections(pool -> limit(pool.getPoolName(), pool, meterRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Wraps one pool in a limiter with the pool's size and connection timeout
+    private static ConnectionLimitingDataSource limit(String name, HikariDataSource pool,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(pool,
+                pool.getMaximumPoolSize(), pool.getConnectionTimeout());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("portal.db.limiter.active", limited, ConnectionLimitingDataSource::activeConnections)
+                    .tag("pool", name).description("Connections checked out through the limiter").register(registry);
+            Gauge.builder("portal.db.limiter.waiting", limited, ConnectionLimitingDataSource::waitingThreads)
+                    .tag("pool", name).description("Threads waiting for a connection permit").register(registry);
+        });
+        log.info("Virtual threads enabled: limiting '{}' to {} concurrent connections", name, limited.maxConnections());
+        return limited;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.telusko.jobportal.config;
+
+// --- IMPORT STATEMENTS ---
+import org.springframework.context.annotation.Configuration; // Import Configuration annotation
+import org.springframework.web.method.support.HandlerMethodArgumentResolver; // Import HandlerMethodArgumentResolver
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry; // Import InterceptorRegistry
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer; // Import WebMvcConfigurer
+
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Spring MVC customizations
+@Configuration // Marks this as a configuration class
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver; // Resolves @CurrentUser parameters
+    private final RequestMetricsInterceptor requestMetricsInterceptor; // Per-handler timings and SQL counts
+
+    // Constructor injection
+    public WebConfig(CurrentUserArgumentResolver currentUserArgumentResolver,
+                     RequestMetricsInterceptor requestMetricsInterceptor) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.requestMetricsInterceptor = requestMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetricsInterceptor);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
\ No newline at end of file
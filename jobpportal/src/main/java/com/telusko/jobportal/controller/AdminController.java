@@ -1,19 +1,37 @@
 package com.telusko.jobportal.controller;
 
 // --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.CurrentUser; // Import CurrentUser annotation
 import com.telusko.jobportal.model.Job; // Import Job entity
-import com.telusko.jobportal.repository.User; // Import User entity
-import com.telusko.jobportal.model.Application; // Import Application entity
+import com.telusko.jobportal.model.ApplicationSummary; // Import the applications view projection
+import com.telusko.jobportal.model.JobDashboardRow; // Import the dashboard projection
 import com.telusko.jobportal.repository.ApplicationRepository; // Import ApplicationRepository
 import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
 import com.telusko.jobportal.repository.UserRepository; // Import UserRepository
-import org.springframework.security.core.Authentication; // Import Authentication
-import org.springframework.security.core.context.SecurityContextHolder; // Import SecurityContextHolder
-import org.springframework.security.core.userdetails.UsernameNotFoundException; // Import
+import com.telusko.jobportal.service.ApplicationEventHub; // Import the live application feed
+import com.telusko.jobportal.service.ApplicationExportService; // Import the CSV/NDJSON export
+import com.telusko.jobportal.service.AuthenticatedUser; // Import the logged-in user principal
+import com.telusko.jobportal.service.JobImportService; // Import the bulk job import
+import com.telusko.jobportal.service.JobService; // Import JobService
+import org.springframework.data.domain.Page; // Import Page
+import org.springframework.data.domain.PageRequest; // Import PageRequest
+import org.springframework.data.domain.Sort; // Import Sort
+import org.springframework.http.ContentDisposition; // Import ContentDisposition
+import org.springframework.http.HttpHeaders; // Import HttpHeaders
+import org.springframework.http.HttpStatus; // Import HttpStatus
+import org.springframework.http.MediaType; // Import MediaType
+import org.springframework.http.ResponseEntity; // Import ResponseEntity
 import org.springframework.stereotype.Controller; // Import Controller
 import org.springframework.ui.Model; // Import Model
 import org.springframework.web.bind.annotation.*; // Import annotations
+import org.springframework.web.multipart.MultipartFile; // Import MultipartFile
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter; // Import SseEmitter
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody; // Import StreamingResponseBody
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder; // Import ServletUriComponentsBuilder
 
+import java.io.IOException; // Import IOException
+import java.io.InputStream; // Import InputStream
+import java.time.LocalDate; // Import LocalDate
 import java.util.List; // Import List
 import java.util.Optional; // Import Optional
 // --- END OF IMPORT STATEMENTS ---
@@ -22,28 +40,43 @@ import java.util.Optional; // Import Optional
 @RequestMapping("/admin") // All paths in this controller start with /admin
 public class AdminController {
 
+    // Paging limits for the applications view
+    private static final int DEFAULT_APPLICATIONS_PAGE_SIZE = 50;
+    private static final int MAX_APPLICATIONS_PAGE_SIZE = 200;
+
     // Repositories injected via constructor
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
+    private final JobService jobService; // Saves jobs and notifies the search index
+    private final ApplicationExportService applicationExportService; // Streams applications as CSV/NDJSON
+    private final JobImportService jobImportService; // Imports uploaded CSV/NDJSON files of jobs
+    private final ApplicationEventHub applicationEventHub; // Pushes new applications to watching job owners
 
     // Constructor injection for repositories
-    public AdminController(JobRepository jobRepository, UserRepository userRepository, ApplicationRepository applicationRepository) {
+    public AdminController(JobRepository jobRepository, UserRepository userRepository, ApplicationRepository applicationRepository,
+                           JobService jobService, ApplicationExportService applicationExportService,
+                           JobImportService jobImportService, ApplicationEventHub applicationEventHub) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.applicationRepository = applicationRepository;
+        this.jobService = jobService;
+        this.applicationExportService = applicationExportService;
+        this.jobImportService = jobImportService;
+        this.applicationEventHub = applicationEventHub;
     }
 
     // Handles GET request for the Admin Dashboard
     // Requires ROLE_ADMIN due to SecurityConfig /admin/** rule
     @GetMapping("/dashboard")
-    public String adminDashboard(Model model) {
-        // Get the currently authenticated admin user from the database
-        User currentAdmin = getAuthenticatedUser();
-        // Fetch jobs posted by this specific admin
-        List<Job> jobsPostedByAdmin = jobRepository.findByPostedBy(currentAdmin);
+    public String adminDashboard(@CurrentUser AuthenticatedUser admin, Model model) {
+        // Fetch jobs posted by this specific admin together with their application counters (one query)
+        LocalDate today = LocalDate.now();
+        List<JobDashboardRow> jobsPostedByAdmin = jobRepository.findDashboardRows(admin.getId(), today,
+                today.minusDays(JobRepository.DASHBOARD_RECENT_DAYS - 1));
         // Add the list of jobs to the model so the template can display them
         model.addAttribute("jobs", jobsPostedByAdmin);
+        model.addAttribute("recentDays", JobRepository.DASHBOARD_RECENT_DAYS);
         return "admin-dashboard"; // Renders admin-dashboard.html
     }
 
@@ -59,21 +92,51 @@ public class AdminController {
     // Handles POST request to process the new job submission
     // Requires ROLE_ADMIN due to SecurityConfig /admin/** rule
     @PostMapping("/add-job")
-    public String addJob(@ModelAttribute Job job) {
-        // Get the currently authenticated admin user
-        User currentAdmin = getAuthenticatedUser();
-        // Set the current admin as the poster of the job
-        job.setPostedBy(currentAdmin);
-        // Save the new job to the database
-        jobRepository.save(job);
+    public String addJob(@CurrentUser AuthenticatedUser admin, @ModelAttribute Job job) {
+        // Set the current admin as the poster of the job (a reference is enough, only the foreign key is written)
+        job.setPostedBy(userRepository.getReferenceById(admin.getId()));
+        // Save the new job to the database (and add it to the search index)
+        jobService.postJob(job);
         // Redirect back to the admin dashboard after successfully adding the job
         return "redirect:/admin/dashboard";
     }
 
-    // Handles GET request to view applications for a specific job
+    // Handles GET request to show the bulk import form
+    // Requires ROLE_ADMIN due to SecurityConfig /admin/** rule
+    @GetMapping("/import-jobs")
+    public String showImportJobsForm() {
+        return "admin-import-jobs"; // Renders admin-import-jobs.html
+    }
+
+    // Handles POST request with a CSV or NDJSON file of jobs, all posted by the current admin
+    // The upload is spooled to disk by the servlet container and read as a stream, then the
+    // page shows how many jobs were imported and which rows were rejected
+    @PostMapping("/import-jobs")
+    public String importJobs(@CurrentUser AuthenticatedUser admin,
+                             @RequestParam("file") MultipartFile file,
+                             @RequestParam(value = "format", required = false) String format, // csv or ndjson, default from the file name
+                             Model model) throws IOException {
+        if (file.isEmpty()) {
+            model.addAttribute("uploadError", "Choose a CSV or NDJSON file to import.");
+            return "admin-import-jobs";
+        }
+        boolean ndjson = JobImportService.isNdjson(format, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            model.addAttribute("report", jobImportService.importJobs(in, ndjson, userRepository.getReferenceById(admin.getId())));
+        }
+        model.addAttribute("fileName", file.getOriginalFilename());
+        return "admin-import-jobs"; // Renders admin-import-jobs.html with the report
+    }
+
+    // Handles GET request to view applications for a specific job, one page at a time
     // Requires ROLE_ADMIN due to SecurityConfig /admin/** rule
     @GetMapping("/view-applications/{jobId}")
-    public String viewApplications(@PathVariable Long jobId, Model model) {
+    public String viewApplications(@CurrentUser AuthenticatedUser admin,
+                                   @PathVariable Long jobId,
+                                   @RequestParam(value = "page", defaultValue = "0") int page, // Zero-based page number
+                                   @RequestParam(value = "size", defaultValue = "" + DEFAULT_APPLICATIONS_PAGE_SIZE) int size, // Rows per page
+                                   @RequestParam(value = "dir", defaultValue = "desc") String dir, // Sort by application date: asc or desc
+                                   Model model) {
         // Find the job by its ID, returning Optional
         Optional<Job> jobOptional = jobRepository.findById(jobId);
 
@@ -86,30 +149,83 @@ public class AdminController {
         Job job = jobOptional.get();
 
         // Security check: Ensure the logged-in admin is the one who posted this job
-        User currentAdmin = getAuthenticatedUser();
-        if (!job.getPostedBy().getId().equals(currentAdmin.getId())) {
+        if (!job.getPostedBy().getId().equals(admin.getId())) {
             // If not authorized, redirect to dashboard with an unauthorized error parameter
             return "redirect:/admin/dashboard?error=unauthorized";
         }
 
-        // Find all applications submitted for this specific job
-        List<Application> applications = applicationRepository.findByJob(job);
-        // Add job title and applications list to the model
+        // Load one page of applications with the applicant's username joined in (no per-row selects)
+        Sort.Direction direction = "asc".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0),
+                Math.min(Math.max(size, 1), MAX_APPLICATIONS_PAGE_SIZE),
+                Sort.by(direction, "applicationDate").and(Sort.by(direction, "id"))); // id keeps the order stable
+        Page<ApplicationSummary> applications = applicationRepository.findSummariesByJobId(job.getId(), pageRequest);
+        // Add job, applications and paging state to the model
+        model.addAttribute("jobId", job.getId());
         model.addAttribute("jobTitle", job.getTitle());
-        model.addAttribute("applications", applications);
+        model.addAttribute("applications", applications.getContent());
+        model.addAttribute("applicationsPage", applications);
+        model.addAttribute("dir", direction == Sort.Direction.ASC ? "asc" : "desc");
         return "admin-view-applications"; // Renders admin-view-applications.html
     }
 
-    // Helper method to fetch the full User entity of the currently authenticated user from the database
-    // Used by controllers to get the current logged-in user's details
-    private User getAuthenticatedUser() {
-        // Get the Authentication object from Spring Security's context
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        // Get the username (principal name) from the Authentication object
-        String username = authentication.getName();
-        // Fetch the full User entity from the database using the username
-        // If the user is not found in the DB (shouldn't happen for an authenticated user), throw exception
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Authenticated user not found in DB: " + username));
+    // Handles GET request to download all applications for a job as CSV (default) or NDJSON (format=ndjson)
+    // Requires ROLE_ADMIN due to SecurityConfig /admin/** rule, and only the admin who posted the job may export it
+    // The body is written after the handler returns (async, from a database cursor), so nothing is buffered in memory
+    @GetMapping("/view-applications/{jobId}/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@CurrentUser AuthenticatedUser admin,
+                                                                    @PathVariable Long jobId,
+                                                                    @RequestParam(value = "format", defaultValue = "csv") String format) {
+        // Same checks as the applications view
+        Optional<Job> jobOptional = jobRepository.findById(jobId);
+        if (jobOptional.isEmpty()) {
+            return redirectToDashboard("jobNotFound");
+        }
+        if (!jobOptional.get().getPostedBy().getId().equals(admin.getId())) {
+            return redirectToDashboard("unauthorized");
+        }
+
+        ApplicationExportService.Format exportFormat = ApplicationExportService.Format.fromParameter(format);
+        String fileName = "applications-job-" + jobId + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> applicationExportService.export(jobId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    // Handles GET request for the live feed of new applications for a job (server-sent events, used by EventSource)
+    // Requires ROLE_ADMIN due to SecurityConfig /admin/** rule, and only the admin who posted the job may subscribe
+    // The ownership check is the only database access; the open stream holds no connection and nothing is polled
+    @GetMapping(value = "/view-applications/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> applicationEvents(@CurrentUser AuthenticatedUser admin, @PathVariable Long jobId) {
+        // Plain status codes instead of redirects: EventSource cannot follow a redirect to an HTML page
+        Optional<Job> jobOptional = jobRepository.findById(jobId);
+        if (jobOptional.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!jobOptional.get().getPostedBy().getId().equals(admin.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Optional<SseEmitter> emitter = applicationEventHub.subscribe(jobId);
+        if (emitter.isEmpty()) {
+            // Too many open streams; the page's script reconnects after a delay
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, ServiceBusyAdvice.RETRY_AFTER_SECONDS).build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no") // Tell nginx-style proxies not to buffer the stream
+                .body(emitter.get());
+    }
+
+    // 302 to the dashboard with an error parameter, for handlers that return a ResponseEntity instead of a view name
+    // The location includes the servlet context path, like "redirect:" view names do
+    private static <T> ResponseEntity<T> redirectToDashboard(String error) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath().path("/admin/dashboard")
+                        .queryParam("error", error).build().toUri())
+                .build();
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.telusko.jobportal.controller;
 
 // --- IMPORT STATEMENTS ---
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
 import org.springframework.stereotype.Controller; // Import Controller
 import org.springframework.web.bind.annotation.GetMapping; // Import GetMapping
+import org.springframework.web.bind.annotation.RequestMapping; // Import RequestMapping
 // --- END OF IMPORT STATEMENTS ---
 
 @Controller // Mark this as a Spring MVC Controller
@@ -13,4 +15,11 @@ public class HomeController {
     public String home() {
         return "index"; // Renders index.html
     }
+
+    // "Try again in a few seconds" page, answered with 503 + Retry-After
+    // Failed logins are forwarded here (any method) when the password hashing pool is full
+    @RequestMapping("/busy")
+    public String busy(HttpServletResponse response) {
+        return ServiceBusyAdvice.busy(response);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.telusko.jobportal.controller;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.service.PasswordHashingBusyException; // Import PasswordHashingBusyException
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
+import org.springframework.http.HttpStatus; // Import HttpStatus
+import org.springframework.web.bind.annotation.ControllerAdvice; // Import ControllerAdvice
+import org.springframework.web.bind.annotation.ExceptionHandler; // Import ExceptionHandler
+// --- END OF IMPORT STATEMENTS ---
+
+// Turns overload exceptions from any controller into a quick 503 page instead of a 500 error page
+@ControllerAdvice // Applies to all controllers
+public class ServiceBusyAdvice {
+
+    // Seconds a client should wait before retrying
+    static final String RETRY_AFTER_SECONDS = "5";
+
+    // Registration while the password hashing pool is full
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public String passwordHashingBusy(HttpServletResponse response) {
+        return busy(response);
+    }
+
+    // Sets 503 + Retry-After and returns the busy view
+    static String busy(HttpServletResponse response) {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+        return "busy"; // Renders busy.html
+    }
+}
\ No newline at end of file
@@ -1,21 +1,39 @@
 package com.telusko.jobportal.controller;
 
 // --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.CurrentUser; // Import CurrentUser annotation
+import com.telusko.jobportal.config.JobRowFragmentCache; // Import the rendered listing row cache
 import com.telusko.jobportal.model.Application; // Import Application entity
-import com.telusko.jobportal.model.Job; // Import Job entity
-import com.telusko.jobportal.repository.User; // Import User entity
-import com.telusko.jobportal.repository.ApplicationRepository; // Import ApplicationRepository
+import com.telusko.jobportal.model.JobDetails; // Import the apply page projection
+import com.telusko.jobportal.model.JobFilter; // Import JobFilter (location, poster, posting age)
+import com.telusko.jobportal.model.JobPage; // Import JobPage (one page of the listing)
+import com.telusko.jobportal.model.JobSearchResult; // Import JobSearchResult
+import com.telusko.jobportal.model.PostingAge; // Import PostingAge
+import com.telusko.jobportal.model.SubmissionStatus; // Import SubmissionStatus
 import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
-import com.telusko.jobportal.repository.UserRepository; // Import UserRepository
-import org.springframework.security.core.Authentication; // Import Authentication
-import org.springframework.security.core.context.SecurityContextHolder; // Import SecurityContextHolder
-import org.springframework.security.core.userdetails.UsernameNotFoundException; // Import
+import com.telusko.jobportal.service.ApplicationSubmissionService; // Import the application intake queue
+import com.telusko.jobportal.service.AuthenticatedUser; // Import the logged-in user principal
+import com.telusko.jobportal.service.CoverLetterTooLongException; // Import CoverLetterTooLongException
+import com.telusko.jobportal.service.DuplicateApplicationException; // Import DuplicateApplicationException
+import com.telusko.jobportal.service.JobCatalogCache; // Import JobCatalogCache (catalog version)
+import com.telusko.jobportal.service.JobFilterService; // Import JobFilterService (facet index)
+import com.telusko.jobportal.service.JobSearchService; // Import JobSearchService
+import com.telusko.jobportal.service.JobService; // Import JobService
+import com.telusko.jobportal.service.SubmissionQueueFullException; // Import SubmissionQueueFullException
+import jakarta.servlet.http.HttpServletResponse; // Import HttpServletResponse
+import jakarta.servlet.http.HttpSession; // Import HttpSession
+import org.springframework.http.CacheControl; // Import CacheControl
+import org.springframework.http.HttpHeaders; // Import HttpHeaders
+import org.springframework.http.HttpStatus; // Import HttpStatus
+import org.springframework.http.ResponseEntity; // Import ResponseEntity
 import org.springframework.stereotype.Controller; // Import Controller
 import org.springframework.ui.Model; // Import Model
 import org.springframework.web.bind.annotation.*; // Import annotations
+import org.springframework.web.context.request.WebRequest; // Import WebRequest
+import org.springframework.web.server.ResponseStatusException; // Import ResponseStatusException
 
-import java.time.LocalDateTime; // Import LocalDateTime
 import java.util.List; // Import List
+import java.util.Map; // Import Map
 import java.util.Optional; // Import Optional
 // --- END OF IMPORT STATEMENTS ---
 
@@ -23,16 +41,29 @@ import java.util.Optional; // Import Optional
 @RequestMapping("/user") // All paths in this controller start with /user
 public class UserController {
 
-    // Repositories injected via constructor
+    // Browsers may keep job pages but must revalidate them on every visit (and shared caches must not keep them)
+    private static final String JOB_PAGE_CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    // Repositories and services injected via constructor
     private final JobRepository jobRepository;
-    private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
+    private final JobService jobService; // Listing pages (keyset pagination)
+    private final JobSearchService jobSearchService; // In-memory full-text search
+    private final ApplicationSubmissionService applicationSubmissionService; // Queued, batched application writes
+    private final JobCatalogCache jobCatalogCache; // Catalog version for conditional GETs
+    private final JobFilterService jobFilterService; // Poster/age filters and facet counts
+    private final JobRowFragmentCache jobRowFragmentCache; // Listing rows rendered once per job
 
     // Constructor injection for repositories
-    public UserController(JobRepository jobRepository, ApplicationRepository applicationRepository, UserRepository userRepository) {
+    public UserController(JobRepository jobRepository, JobService jobService, JobSearchService jobSearchService,
+                          ApplicationSubmissionService applicationSubmissionService, JobCatalogCache jobCatalogCache,
+                          JobFilterService jobFilterService, JobRowFragmentCache jobRowFragmentCache) {
         this.jobRepository = jobRepository;
-        this.applicationRepository = applicationRepository;
-        this.userRepository = userRepository;
+        this.jobService = jobService;
+        this.jobSearchService = jobSearchService;
+        this.applicationSubmissionService = applicationSubmissionService;
+        this.jobCatalogCache = jobCatalogCache;
+        this.jobFilterService = jobFilterService;
+        this.jobRowFragmentCache = jobRowFragmentCache;
     }
 
     // User Dashboard (simple placeholder)
@@ -43,29 +74,66 @@ public class UserController {
         return "user-dashboard"; // Renders user-dashboard.html
     }
 
-    // View all available jobs for users
+    // View available jobs for users, one keyset page at a time (newest first)
     // Requires authentication due to SecurityConfig anyRequest().authenticated(), but accessible by USER role
     @GetMapping("/view-jobs")
     public String viewAllJobs(
             @RequestParam(value = "applied", required = false) String applied, // Optional applied parameter from redirect
-            Model model) {
-        List<Job> allJobs = jobRepository.findAll(); // Fetch all jobs from the database
-        model.addAttribute("jobs", allJobs); // Add the list of jobs to the model
+            @RequestParam(value = "ticket", required = false) String ticket, // Ticket of a just-queued application
+            @RequestParam(value = "alreadyApplied", required = false) String alreadyApplied, // Set when a repeat application was refused
+            @RequestParam(value = "before", required = false) Long before, // Cursor from the "Next" link
+            @RequestParam(value = "after", required = false) Long after, // Cursor from the "Previous" link
+            @RequestParam(value = "location", required = false) String location, // Optional location filter
+            @RequestParam(value = "postedBy", required = false) Long postedBy, // Optional posting admin filter
+            @RequestParam(value = "posted", required = false) PostingAge posted, // Optional posting age filter
+            WebRequest request, HttpSession session, HttpServletResponse response, Model model) {
+        if (notModified(request, session, response)) {
+            return null; // 304, the browser shows its copy
+        }
+        JobFilter filter = new JobFilter(location, postedBy, posted);
+        // Location alone is served by the keyset queries, any other filter by the in-memory facet index
+        JobPage page = filter.isLocationOnly()
+                ? jobService.listJobs(before, after, filter.getLocation()) // Fetch only this page's listing rows
+                : jobFilterService.listJobs(filter, before, after); // Intersect the posting lists, then fetch the page's rows
+        model.addAttribute("jobs", page.getJobs()); // Add the jobs on this page to the model
+        model.addAttribute("page", page); // Cursors for the Next/Previous links
+        model.addAttribute("jobRows", jobRowFragmentCache); // Renders (or reuses) each row's HTML
+        // Keep the filters in the form, the facet links and the paging links
+        model.addAttribute("filter", filter);
+        model.addAttribute("location", filter.getLocation()); // null when no location filter is applied
+        model.addAttribute("facets", jobFilterService.facets(filter)); // Counts shown next to the listing
+        model.addAttribute("facetsReady", jobFilterService.isReady()); // False while the index is still loading
         // Add success message if 'applied' parameter is present (from successful application redirect)
         if (applied != null) {
             model.addAttribute("applicationSuccess", "Application submitted successfully!");
+            model.addAttribute("ticket", ticket);
+        }
+        if (alreadyApplied != null) {
+            model.addAttribute("applicationError", "You have already applied for this job.");
         }
         return "view-jobs"; // Renders view-jobs.html
     }
 
+    // Full-text search over job title, description and location
+    // Answered from the in-memory index (JobSearchService), no database access
+    @GetMapping("/jobs/search")
+    public String searchJobs(@RequestParam(value = "q", required = false) String query, Model model) {
+        List<JobSearchResult> results = jobSearchService.search(query); // Ranked hits, best first
+        model.addAttribute("query", query); // Echo the query back into the search box
+        model.addAttribute("results", results); // Add the hits to the model
+        model.addAttribute("indexReady", jobSearchService.isReady()); // False while the index is still loading
+        return "search-jobs"; // Renders search-jobs.html
+    }
+
     // Show form to apply for a specific job
     // Requires authentication due to SecurityConfig anyRequest().authenticated(), but accessible by USER role
     @GetMapping("/apply/{jobId}")
-    public String showApplyForm(@PathVariable Long jobId, Model model) {
-        // Find the job by ID, or throw exception if not found (can add graceful handling like in AdminController)
-        // For a user-facing page, graceful handling might be better than a WhiteLabel Error page.
-        // Consider using Optional and checking jobOptional.isEmpty() like in AdminController's viewApplications.
-        Job job = jobRepository.findById(jobId).orElseThrow(() -> new RuntimeException("Job not found"));
+    public String showApplyForm(@PathVariable Long jobId, WebRequest request, HttpSession session,
+                                HttpServletResponse response, Model model) {
+        if (notModified(request, session, response)) {
+            return null; // 304, the browser shows its copy
+        }
+        JobDetails job = findJob(jobId); // 404 for an unknown (or deleted) job
         model.addAttribute("job", job); // Add the job details to the model for display
         model.addAttribute("application", new Application()); // Add a new Application object for the form binding
         return "apply-job"; // Renders apply-job.html
@@ -74,35 +142,73 @@ public class UserController {
     // Process application submission for a job
     // Handles POST request to /user/apply/{jobId}
     // Requires authentication due to SecurityConfig anyRequest().authenticated(), but accessible by USER role
+    // The application is only queued here (no database access); ApplicationSubmissionService writes it in a
+    // batch shortly after, and the ticket in the redirect can be used to check on it
     @PostMapping("/apply/{jobId}")
-    public String applyForJob(@PathVariable Long jobId, @ModelAttribute Application application) {
-        // Find the job by ID again
-        // Again, consider graceful handling here if jobId is invalid POSTed
-        Job job = jobRepository.findById(jobId).orElseThrow(() -> new RuntimeException("Job not found"));
-        User currentUser = getAuthenticatedUser(); // Get the currently logged-in user
-
-        // Set relationships and timestamp for the application
-        application.setJob(job);
-        application.setApplicant(currentUser);
-        application.setApplicationDate(LocalDateTime.now());
-        // The 'coverLetter' field is automatically bound from the form via @ModelAttribute
+    public String applyForJob(@CurrentUser AuthenticatedUser user, @PathVariable Long jobId,
+                              @ModelAttribute Application application, // 'coverLetter' is bound from the form
+                              HttpServletResponse response, Model model) {
+        try {
+            String ticket = applicationSubmissionService.submit(jobId, user.getId(), user.getUsername(),
+                    application.getCoverLetter());
+            // Redirect back to the jobs list with a success indicator parameter and the acknowledgement ticket
+            return "redirect:/user/view-jobs?applied&ticket=" + ticket;
+        } catch (CoverLetterTooLongException e) {
+            // Show the form again with the text, so the user can shorten it
+            JobDetails job = findJob(jobId);
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            model.addAttribute("job", job);
+            model.addAttribute("coverLetterTooLong", true);
+            return "apply-job"; // The bound 'application' keeps the cover letter
+        } catch (DuplicateApplicationException e) {
+            // Repeat submit (double click, back button, bot): nothing was queued
+            return "redirect:/user/view-jobs?alreadyApplied";
+        } catch (SubmissionQueueFullException e) {
+            // Backpressure: tell the browser to retry shortly and keep the cover letter for the retry form
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", ServiceBusyAdvice.RETRY_AFTER_SECONDS);
+            model.addAttribute("jobId", jobId);
+            model.addAttribute("coverLetter", application.getCoverLetter());
+            return "apply-busy"; // Renders apply-busy.html
+        }
+    }
 
-        applicationRepository.save(application); // Save the application to the database
+    // The apply page's job; the lookup runs on the primary, so a job the listing shows is always found
+    private JobDetails findJob(Long jobId) {
+        return jobRepository.findDetailsById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found"));
+    }
 
-        // Redirect back to the jobs list with a success indicator parameter
-        return "redirect:/user/view-jobs?applied";
+    // Conditional GET for pages rendered only from the job catalog, the facet index, the date, the URL and the session
+    // The ETag combines the catalog version, the facet index state and today's date (posting-age counts and
+    // filters move at midnight) with a hash of the session id: the pages carry the session's CSRF token, so a
+    // copy from an earlier session must not be reused. Weak, because the token is masked differently on every
+    // render. Last-Modified is at least the start of today for the same reason.
+    // A match answers 304 before any repository or template work is done. While the facet index is still
+    // loading, pages change as it fills, so they are always rendered.
+    private boolean notModified(WebRequest request, HttpSession session, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, JOB_PAGE_CACHE_CONTROL); // Also keeps Spring Security's no-store away
+        boolean facetsReady = jobFilterService.isReady();
+        String etag = "W/\"" + jobCatalogCache.catalogVersion() + (facetsReady ? "" : "-loading") + "-"
+                + jobFilterService.today().toEpochDay() + "-" + Integer.toHexString(session.getId().hashCode()) + "\"";
+        long lastModified = Math.max(jobCatalogCache.lastModified(), jobFilterService.startOfToday().toEpochMilli());
+        if (!facetsReady) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return false;
+        }
+        return request.checkNotModified(etag, lastModified);
     }
 
-    // Helper method to fetch the full User entity of the currently authenticated user from the database
-    // Used by controllers to get the current logged-in user's details
-    private User getAuthenticatedUser() {
-        // Get the Authentication object from Spring Security's context
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        // Get the username (principal name) from the Authentication object
-        String username = authentication.getName();
-        // Fetch the full User entity from the database using the username
-        // If the user is not found in the DB (shouldn't happen for an authenticated user), throw exception
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Authenticated user not found in DB: " + username));
+    // Status of a queued application (QUEUED, SAVED, DUPLICATE, REJECTED or FAILED) for the ticket from the apply redirect
+    // Only the applicant who submitted it can see it
+    @GetMapping("/applications/{ticket}/status")
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> applicationStatus(@CurrentUser AuthenticatedUser user,
+                                                                 @PathVariable String ticket) {
+        SubmissionStatus status = applicationSubmissionService.status(ticket, user.getId());
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("ticket", ticket, "status", status.name()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.telusko.jobportal.event;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.Application; // Import Application entity
+import com.telusko.jobportal.model.ApplicationSubmission; // Import the queued application
+
+import java.time.LocalDateTime; // Import LocalDateTime
+import java.util.ArrayList; // Import ArrayList
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Published by the application writer after a batch of applications has been committed
+// Carries plain values (no entities), so listeners can use them on any thread without a session
+public class ApplicationsSavedEvent {
+
+    private final List<SavedApplication> applications; // The committed applications, ids assigned
+
+    public ApplicationsSavedEvent(List<SavedApplication> applications) {
+        this.applications = List.copyOf(applications);
+    }
+
+    // Pairs the queued submissions with the entities saved for them (same order)
+    public static ApplicationsSavedEvent of(List<ApplicationSubmission> submissions, List<Application> saved) {
+        List<SavedApplication> applications = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            ApplicationSubmission submission = submissions.get(i);
+            applications.add(new SavedApplication(saved.get(i).getId(), submission.getJobId(),
+                    submission.getApplicantUsername(), submission.getApplicationDate()));
+        }
+        return new ApplicationsSavedEvent(applications);
+    }
+
+    public List<SavedApplication> getApplications() {
+        return applications;
+    }
+
+    // One committed application (what a job owner's live feed shows)
+    public static class SavedApplication {
+
+        private final Long id; // Application ID
+        private final Long jobId; // Job applied for
+        private final String applicantUsername; // Username of the applicant
+        private final LocalDateTime applicationDate; // When the application was submitted
+
+        public SavedApplication(Long id, Long jobId, String applicantUsername, LocalDateTime applicationDate) {
+            this.id = id;
+            this.jobId = jobId;
+            this.applicantUsername = applicantUsername;
+            this.applicationDate = applicationDate;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Long getJobId() {
+            return jobId;
+        }
+
+        public String getApplicantUsername() {
+            return applicantUsername;
+        }
+
+        public LocalDateTime getApplicationDate() {
+            return applicationDate;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.telusko.jobportal.event;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.Job; // Import Job entity
+
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Published after one or more Job rows have been saved
+// In-memory read models (search index, caches) listen for this instead of re-reading the job table
+public class JobsSavedEvent {
+
+    private final List<Job> jobs; // The saved jobs, ids assigned
+
+    public JobsSavedEvent(List<Job> jobs) {
+        this.jobs = List.copyOf(jobs);
+    }
+
+    public List<Job> getJobs() {
+        return jobs;
+    }
+}
\ No newline at end of file
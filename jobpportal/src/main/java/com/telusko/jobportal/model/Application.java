@@ -7,11 +7,18 @@ import java.time.LocalDateTime; // Import LocalDateTime for application date
 // --- END OF IMPORT STATEMENTS ---
 
 @Entity // Marks this class as a JPA entity
-@Table(name = "application") // Maps this entity to the 'application' table in the database
+@Table(name = "application", // Maps this entity to the 'application' table in the database
+        indexes = {@Index(name = "idx_application_job_date", columnList = "job_id, applicationDate"), // Serves the per-job page sorted by date
+                @Index(name = "idx_application_applicant", columnList = "applicant_id")}, // Backs the foreign key to user
+        uniqueConstraints = @UniqueConstraint(name = Application.UNIQUE_JOB_APPLICANT, columnNames = {"job_id", "applicant_id"})) // One application per user and job
 public class Application {
 
+    // Name of the (job_id, applicant_id) unique constraint, used to recognise duplicate inserts
+    public static final String UNIQUE_JOB_APPLICANT = "uk_application_job_applicant";
+
     @Id // Primary key
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-generate primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_seq") // Pooled ids, keeps inserts batchable
+    @SequenceGenerator(name = "application_seq", sequenceName = "application_seq", allocationSize = 50) // One sequence call per 50 applications
     private Long id; // Application ID
 
     @ManyToOne // Many applications for One job
@@ -25,7 +32,10 @@ public class Application {
     @Column(nullable = false) // Must not be null
     private LocalDateTime applicationDate; // Timestamp of the application
 
-    @Column(columnDefinition = "TEXT") // Maps to a TEXT column in DB
+    @Lob // Stored in a BLOB column (migration V4)
+    @Basic(fetch = FetchType.LAZY) // Loaded on first access only (needs the bytecode enhancement in the pom)
+    @Convert(converter = CompressedTextConverter.class) // Gzip-compressed when long
+    @Column(columnDefinition = "BLOB")
     private String coverLetter; // Cover letter text (optional)
 
     // --- Getters and Setters (Add Lombok @Data or generate manually) ---
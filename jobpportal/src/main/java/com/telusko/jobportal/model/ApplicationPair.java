@@ -0,0 +1,28 @@
+package com.telusko.jobportal.model;
+
+// Which applicant applied for which job, without the rest of the row
+// Read in id order to warm the duplicate check (ApplicationDuplicateGuard)
+public class ApplicationPair {
+
+    private final Long id; // Application ID (keyset cursor)
+    private final Long jobId; // Job applied for
+    private final Long applicantId; // User who applied
+
+    public ApplicationPair(Long id, Long jobId, Long applicantId) {
+        this.id = id;
+        this.jobId = jobId;
+        this.applicantId = applicantId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+}
\ No newline at end of file
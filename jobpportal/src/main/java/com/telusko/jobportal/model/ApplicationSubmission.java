@@ -0,0 +1,51 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.time.LocalDateTime; // Import LocalDateTime
+// --- END OF IMPORT STATEMENTS ---
+
+// An application accepted from the apply form and waiting in the submission queue
+// Holds only ids and values, never entities, so queued items don't pin persistence contexts
+public class ApplicationSubmission {
+
+    private final String ticket; // Acknowledgement id handed back to the applicant
+    private final Long jobId; // Job being applied for
+    private final Long applicantId; // User applying
+    private final String applicantUsername; // Applicant's username (for notifications, avoids a lookup)
+    private final String coverLetter; // Cover letter text (may be null)
+    private final LocalDateTime applicationDate; // Time the application was accepted
+
+    public ApplicationSubmission(String ticket, Long jobId, Long applicantId, String applicantUsername,
+                                 String coverLetter, LocalDateTime applicationDate) {
+        this.ticket = ticket;
+        this.jobId = jobId;
+        this.applicantId = applicantId;
+        this.applicantUsername = applicantUsername;
+        this.coverLetter = coverLetter;
+        this.applicationDate = applicationDate;
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+
+    public String getApplicantUsername() {
+        return applicantUsername;
+    }
+
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+}
\ No newline at end of file
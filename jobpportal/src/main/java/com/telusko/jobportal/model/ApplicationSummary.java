@@ -0,0 +1,39 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.time.LocalDateTime; // Import LocalDateTime
+// --- END OF IMPORT STATEMENTS ---
+
+// Read-only row for the admin applications view
+// Built by a single JPQL constructor expression that joins the applicant, so rendering
+// 'applicantUsername' never triggers a per-row select
+public class ApplicationSummary {
+
+    private final Long id; // Application ID
+    private final String applicantUsername; // Username of the applicant
+    private final LocalDateTime applicationDate; // When the application was submitted
+    private final String coverLetter; // Cover letter text (may be null)
+
+    public ApplicationSummary(Long id, String applicantUsername, LocalDateTime applicationDate, String coverLetter) {
+        this.id = id;
+        this.applicantUsername = applicantUsername;
+        this.applicationDate = applicationDate;
+        this.coverLetter = coverLetter;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getApplicantUsername() {
+        return applicantUsername;
+    }
+
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import jakarta.persistence.AttributeConverter; // Import AttributeConverter
+import jakarta.persistence.Converter; // Import Converter annotation
+
+import java.io.ByteArrayInputStream; // Import ByteArrayInputStream
+import java.io.ByteArrayOutputStream; // Import ByteArrayOutputStream
+import java.io.IOException; // Import IOException
+import java.io.UncheckedIOException; // Import UncheckedIOException
+import java.nio.charset.StandardCharsets; // Import StandardCharsets
+import java.util.zip.GZIPInputStream; // Import GZIPInputStream
+import java.util.zip.GZIPOutputStream; // Import GZIPOutputStream
+// --- END OF IMPORT STATEMENTS ---
+
+// Stores long free text (job descriptions, cover letters) gzip-compressed in a BLOB column
+// Texts shorter than COMPRESSION_THRESHOLD_BYTES, and texts that do not get smaller, are stored as plain
+// UTF-8. Reading tells the two apart by the gzip magic number: 0x1f 0x8b can never start valid UTF-8
+// (0x8b is a continuation byte), so rows written before compression was introduced read back unchanged.
+@Converter // Applied explicitly with @Convert on the columns that use it
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    // Below this many UTF-8 bytes the gzip header and the CPU time are not worth it
+    static final int COMPRESSION_THRESHOLD_BYTES = 256;
+
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+        if (plain.length < COMPRESSION_THRESHOLD_BYTES) {
+            return plain;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(plain.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(plain);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory streams do not fail
+        }
+        return compressed.size() < plain.length ? compressed.toByteArray() : plain;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(stored))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed text column", e);
+        }
+    }
+
+    static boolean isCompressed(byte[] stored) {
+        return stored.length >= 2 && (stored[0] & 0xff) == GZIP_MAGIC_FIRST && (stored[1] & 0xff) == GZIP_MAGIC_SECOND;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.telusko.jobportal.model;
+
+// One value of a filter facet with the number of jobs it would show
+// 'link' is the filter to apply when the value is clicked: the value selected, or cleared if it already is
+public class FacetCount {
+
+    private final String label; // Shown to the user
+    private final long count; // Matching jobs, given the other active filters
+    private final boolean selected; // True when this value is the active filter
+    private final JobFilter link; // Filter behind the facet's link
+
+    public FacetCount(String label, long count, boolean selected, JobFilter link) {
+        this.label = label;
+        this.count = count;
+        this.selected = selected;
+        this.link = link;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    public JobFilter getLink() {
+        return link;
+    }
+}
\ No newline at end of file
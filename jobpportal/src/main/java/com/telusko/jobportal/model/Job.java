@@ -1,22 +1,36 @@
 package com.telusko.jobportal.model;
 
 // --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.EntityCacheConfig; // Import the cache region names
 import com.telusko.jobportal.repository.User; // Import the User entity (assuming it's in repository package)
 import jakarta.persistence.*; // Import JPA annotations
+import org.hibernate.annotations.Cache; // Import Hibernate's Cache annotation
+import org.hibernate.annotations.CacheConcurrencyStrategy; // Import CacheConcurrencyStrategy
+
+import java.time.LocalDateTime; // Import LocalDateTime for the posting time
 // --- END OF IMPORT STATEMENTS ---
 
 @Entity // Marks this class as a JPA entity
-@Table(name = "job") // Maps this entity to the 'job' table in the database
+@Table(name = "job", // Maps this entity to the 'job' table in the database
+        indexes = {@Index(name = "idx_job_location_id", columnList = "location, id"), // Serves the keyset listing filtered by location
+                @Index(name = "idx_job_posted_by_id", columnList = "posted_by_id, id")}) // Serves an admin's own jobs in id order
+@Cacheable // Kept in the second-level cache (see EntityCacheConfig)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.JOB_REGION, // Read on every apply/admin request
+        includeLazy = false) // The cached rows leave the description out, it is only shown on the apply page
 public class Job {
 
     @Id // Primary key
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-generate primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_seq") // Pooled ids, keeps inserts batchable
+    @SequenceGenerator(name = "job_seq", sequenceName = "job_seq", allocationSize = 50) // One sequence call per 50 jobs
     private Long id; // Job ID
 
     @Column(nullable = false) // Must not be null
     private String title; // Job title
 
-    @Column(columnDefinition = "TEXT") // Maps to a TEXT column in DB
+    @Lob // Stored in a BLOB column (migration V4)
+    @Basic(fetch = FetchType.LAZY) // Loaded on first access only (needs the bytecode enhancement in the pom)
+    @Convert(converter = CompressedTextConverter.class) // Gzip-compressed when long
+    @Column(columnDefinition = "BLOB")
     private String description; // Job description
 
     private String location; // Job location
@@ -25,6 +39,8 @@ public class Job {
     @JoinColumn(name = "posted_by_id", nullable = false) // Column in job table that links to user table
     private User postedBy; // The user who posted this job
 
+    private LocalDateTime postedAt; // When the job was posted (set by JobService, null for jobs posted before V5)
+
     // --- Getters and Setters (Add Lombok @Data or generate manually) ---
 
     public Long getId() {
@@ -66,4 +82,12 @@ public class Job {
     public void setPostedBy(User postedBy) {
         this.postedBy = postedBy;
     }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(LocalDateTime postedAt) {
+        this.postedAt = postedAt;
+    }
 }
\ No newline at end of file
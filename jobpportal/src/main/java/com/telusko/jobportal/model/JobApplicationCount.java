@@ -0,0 +1,52 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import jakarta.persistence.*; // Import JPA annotations
+import java.time.LocalDateTime; // Import LocalDateTime
+// --- END OF IMPORT STATEMENTS ---
+
+// Running total of applications per job, maintained by ApplicationCountService
+// Updated in the same transaction that inserts the applications, so the admin dashboard can show
+// counts without counting the application table. 'job_id' is a plain column (no foreign key): the
+// counter is derived data and must never block changes to the job table.
+@Entity // Marks this class as a JPA entity
+@Table(name = "job_application_count") // Maps this entity to the 'job_application_count' table in the database
+public class JobApplicationCount {
+
+    @Id // Primary key, one row per job
+    @Column(name = "job_id")
+    private Long jobId; // Job the applications belong to
+
+    @Column(nullable = false)
+    private long applicationCount; // Applications ever saved for the job
+
+    private LocalDateTime lastApplicationAt; // Date of the newest application
+
+    protected JobApplicationCount() {
+        // For JPA
+    }
+
+    public JobApplicationCount(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Adds 'applications' more applications, the newest of them dated 'latest'
+    public void add(long applications, LocalDateTime latest) {
+        applicationCount += applications;
+        if (lastApplicationAt == null || (latest != null && latest.isAfter(lastApplicationAt))) {
+            lastApplicationAt = latest;
+        }
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public long getApplicationCount() {
+        return applicationCount;
+    }
+
+    public LocalDateTime getLastApplicationAt() {
+        return lastApplicationAt;
+    }
+}
\ No newline at end of file
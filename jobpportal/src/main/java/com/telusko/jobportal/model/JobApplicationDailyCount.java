@@ -0,0 +1,92 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import jakarta.persistence.*; // Import JPA annotations
+import java.io.Serializable; // Import Serializable
+import java.time.LocalDate; // Import LocalDate
+import java.util.Objects; // Import Objects
+// --- END OF IMPORT STATEMENTS ---
+
+// Applications per job per calendar day (by application date), maintained by ApplicationCountService
+// Same rules as JobApplicationCount: written with the applications, no foreign key to the job table
+@Entity // Marks this class as a JPA entity
+@Table(name = "job_application_daily_count") // Maps this entity to the 'job_application_daily_count' table in the database
+@IdClass(JobApplicationDailyCount.Key.class) // Composite primary key (job_id, application_day)
+public class JobApplicationDailyCount {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId; // Job the applications belong to
+
+    @Id
+    @Column(name = "application_day")
+    private LocalDate day; // Calendar day of the application date
+
+    @Column(nullable = false)
+    private long applicationCount; // Applications saved for the job on that day
+
+    protected JobApplicationDailyCount() {
+        // For JPA
+    }
+
+    public JobApplicationDailyCount(Long jobId, LocalDate day) {
+        this.jobId = jobId;
+        this.day = day;
+    }
+
+    public void add(long applications) {
+        applicationCount += applications;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public long getApplicationCount() {
+        return applicationCount;
+    }
+
+    // Primary key class for @IdClass
+    public static class Key implements Serializable {
+
+        private Long jobId;
+        private LocalDate day;
+
+        public Key() {
+            // For JPA
+        }
+
+        public Key(Long jobId, LocalDate day) {
+            this.jobId = jobId;
+            this.day = day;
+        }
+
+        public Long getJobId() {
+            return jobId;
+        }
+
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(jobId, key.jobId) && Objects.equals(day, key.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobId, day);
+        }
+    }
+}
\ No newline at end of file
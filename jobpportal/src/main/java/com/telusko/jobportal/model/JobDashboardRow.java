@@ -0,0 +1,58 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.time.LocalDateTime; // Import LocalDateTime
+// --- END OF IMPORT STATEMENTS ---
+
+// One job on the admin dashboard with its application counters
+// Built by a single JPQL constructor expression (JobRepository.findDashboardRows) that joins the
+// materialized counters, so the dashboard never counts the application table
+public class JobDashboardRow {
+
+    private final Long id; // Job ID
+    private final String title; // Job title
+    private final String location; // Job location
+    private final long applicationCount; // All applications
+    private final LocalDateTime lastApplicationAt; // Newest application, null if there are none
+    private final long applicationsToday; // Applications dated today
+    private final long applicationsRecent; // Applications in the last JobRepository.DASHBOARD_RECENT_DAYS days, today included
+
+    public JobDashboardRow(Long id, String title, String location, Long applicationCount, LocalDateTime lastApplicationAt,
+                           Long applicationsToday, Long applicationsRecent) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+        this.applicationCount = applicationCount == null ? 0 : applicationCount;
+        this.lastApplicationAt = lastApplicationAt;
+        this.applicationsToday = applicationsToday == null ? 0 : applicationsToday;
+        this.applicationsRecent = applicationsRecent == null ? 0 : applicationsRecent;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public long getApplicationCount() {
+        return applicationCount;
+    }
+
+    public LocalDateTime getLastApplicationAt() {
+        return lastApplicationAt;
+    }
+
+    public long getApplicationsToday() {
+        return applicationsToday;
+    }
+
+    public long getApplicationsRecent() {
+        return applicationsRecent;
+    }
+}
\ No newline at end of file
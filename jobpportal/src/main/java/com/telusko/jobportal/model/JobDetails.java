@@ -0,0 +1,41 @@
+package com.telusko.jobportal.model;
+
+// What the apply page shows of a Job: its text plus the name of the admin who posted it
+// Selected by a JPQL constructor expression, so the page gets the lazily loaded description without
+// a Job entity (and its postedBy user) being loaded for it
+public class JobDetails {
+
+    private final Long id; // Job ID
+    private final String title; // Job title
+    private final String description; // Job description (may be null)
+    private final String location; // Job location (may be null)
+    private final String postedByUsername; // Username of the admin who posted the job
+
+    public JobDetails(Long id, String title, String description, String location, String postedByUsername) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.location = location;
+        this.postedByUsername = postedByUsername;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getPostedByUsername() {
+        return postedByUsername;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.telusko.jobportal.model;
+
+// Searchable text of a Job (id, title, description, location)
+// Used to build the in-memory search index without loading Job entities or their postedBy users
+public class JobDocument {
+
+    private final Long id; // Job ID
+    private final String title; // Job title
+    private final String description; // Job description (may be null)
+    private final String location; // Job location (may be null)
+
+    public JobDocument(Long id, String title, String description, String location) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.location = location;
+    }
+
+    // Builds a document from a freshly saved Job entity
+    public static JobDocument of(Job job) {
+        return new JobDocument(job.getId(), job.getTitle(), job.getDescription(), job.getLocation());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+}
\ No newline at end of file
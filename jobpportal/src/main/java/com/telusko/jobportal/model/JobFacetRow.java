@@ -0,0 +1,43 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.time.LocalDateTime; // Import LocalDateTime
+// --- END OF IMPORT STATEMENTS ---
+
+// The filterable attributes of a Job, used to load the facet index without loading Job entities
+public class JobFacetRow {
+
+    private final Long id; // Job ID
+    private final String location; // Job location (may be null)
+    private final Long postedById; // Id of the admin who posted the job
+    private final String postedByUsername; // Username of that admin
+    private final LocalDateTime postedAt; // Posting time (null for jobs posted before it was recorded)
+
+    public JobFacetRow(Long id, String location, Long postedById, String postedByUsername, LocalDateTime postedAt) {
+        this.id = id;
+        this.location = location;
+        this.postedById = postedById;
+        this.postedByUsername = postedByUsername;
+        this.postedAt = postedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Long getPostedById() {
+        return postedById;
+    }
+
+    public String getPostedByUsername() {
+        return postedByUsername;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+}
\ No newline at end of file
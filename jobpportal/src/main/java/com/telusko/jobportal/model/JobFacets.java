@@ -0,0 +1,33 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Facet counts shown next to the job listing, one list per filter
+// Each count applies the other active filters but not its own, so the count next to a value is the
+// number of jobs the listing shows after switching to that value
+public class JobFacets {
+
+    private final List<FacetCount> locations; // Busiest locations first
+    private final List<FacetCount> posters; // Admins with the most matching jobs first
+    private final List<FacetCount> postingAges; // In PostingAge order
+
+    public JobFacets(List<FacetCount> locations, List<FacetCount> posters, List<FacetCount> postingAges) {
+        this.locations = locations;
+        this.posters = posters;
+        this.postingAges = postingAges;
+    }
+
+    public List<FacetCount> getLocations() {
+        return locations;
+    }
+
+    public List<FacetCount> getPosters() {
+        return posters;
+    }
+
+    public List<FacetCount> getPostingAges() {
+        return postingAges;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.telusko.jobportal.model;
+
+// Filters of the job listing: location, posting admin and posting age, each optional (null = any)
+// Immutable; the with* methods return the filter with one value changed, for building facet links
+public class JobFilter {
+
+    private final String location; // Exact location
+    private final Long postedById; // Id of the admin who posted the job
+    private final PostingAge postedWithin; // Maximum posting age
+
+    public JobFilter(String location, Long postedById, PostingAge postedWithin) {
+        this.location = (location == null || location.isBlank()) ? null : location.trim();
+        this.postedById = postedById;
+        this.postedWithin = postedWithin;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Long getPostedById() {
+        return postedById;
+    }
+
+    public PostingAge getPostedWithin() {
+        return postedWithin;
+    }
+
+    // True when only the location (or nothing) is filtered on, which the keyset listing queries serve directly
+    public boolean isLocationOnly() {
+        return postedById == null && postedWithin == null;
+    }
+
+    public JobFilter withLocation(String location) {
+        return new JobFilter(location, postedById, postedWithin);
+    }
+
+    public JobFilter withPostedById(Long postedById) {
+        return new JobFilter(location, postedById, postedWithin);
+    }
+
+    public JobFilter withPostedWithin(PostingAge postedWithin) {
+        return new JobFilter(location, postedById, postedWithin);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Outcome of one bulk job import (JobImportService)
+// Valid rows are imported, invalid rows are skipped and listed in 'errors' (up to a configured limit)
+public class JobImportReport {
+
+    private final int importedCount; // Rows saved as jobs
+    private final int rejectedCount; // Rows skipped because they failed validation
+    private final List<RowError> errors; // First rejected rows, in file order
+    private final boolean errorsTruncated; // True when more rows were rejected than 'errors' lists
+    private final String failure; // Why the import stopped before the end of the file, null if it did not
+
+    public JobImportReport(int importedCount, int rejectedCount, List<RowError> errors, boolean errorsTruncated, String failure) {
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+        this.failure = failure;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    // One rejected row: the line in the upload where it starts and what was wrong with it
+    public static class RowError {
+
+        private final int line;
+        private final String message;
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// One page of the job listing plus the cursors needed to move to the neighbouring pages
+// Jobs are ordered newest first (highest id first)
+public class JobPage {
+
+    private final List<JobSummary> jobs; // Rows on this page, newest first
+    private final Long nextCursor; // Pass as 'before' to get older jobs, null on the last page
+    private final Long prevCursor; // Pass as 'after' to get newer jobs, null on the first page
+
+    public JobPage(List<JobSummary> jobs, Long nextCursor, Long prevCursor) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    public List<JobSummary> getJobs() {
+        return jobs;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public Long getPrevCursor() {
+        return prevCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrev() {
+        return prevCursor != null;
+    }
+}
\ No newline at end of file
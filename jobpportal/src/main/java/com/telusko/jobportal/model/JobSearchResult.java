@@ -0,0 +1,33 @@
+package com.telusko.jobportal.model;
+
+// One ranked hit returned by the job search
+public class JobSearchResult {
+
+    private final Long id; // Job ID
+    private final String title; // Job title
+    private final String location; // Job location (may be null)
+    private final double score; // BM25 relevance score, higher is better
+
+    public JobSearchResult(Long id, String title, String location, double score) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+        this.score = score;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.telusko.jobportal.model;
+
+// Read-only listing row for a Job (id, title, location)
+// Built directly by JPQL constructor expressions, so listing queries never read the TEXT description
+// column and never join the postedBy user
+public class JobSummary {
+
+    private final Long id; // Job ID (also the keyset pagination cursor)
+    private final String title; // Job title
+    private final String location; // Job location (may be null)
+
+    public JobSummary(Long id, String title, String location) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+    }
+
+    // --- Getters (no setters, instances are immutable) ---
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+}
\ No newline at end of file
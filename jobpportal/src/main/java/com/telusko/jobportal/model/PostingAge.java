@@ -0,0 +1,29 @@
+package com.telusko.jobportal.model;
+
+// --- IMPORT STATEMENTS ---
+import java.time.LocalDate; // Import LocalDate
+// --- END OF IMPORT STATEMENTS ---
+
+// "Posted within" choices of the job filter, counted in calendar days (today included)
+public enum PostingAge {
+    TODAY("Today", 1),
+    LAST_7_DAYS("Last 7 days", 7),
+    LAST_30_DAYS("Last 30 days", 30);
+
+    private final String label; // Shown in the filter
+    private final int days; // Calendar days covered, today included
+
+    PostingAge(String label, int days) {
+        this.label = label;
+        this.days = days;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // First day a job may have been posted on to fall into this range
+    public LocalDate since(LocalDate today) {
+        return today.minusDays(days - 1L);
+    }
+}
\ No newline at end of file
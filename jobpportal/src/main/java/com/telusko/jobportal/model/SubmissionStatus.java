@@ -0,0 +1,10 @@
+package com.telusko.jobportal.model;
+
+// Lifecycle of a queued application (see ApplicationSubmissionService)
+public enum SubmissionStatus {
+    QUEUED, // Accepted and waiting for the next batch write
+    SAVED, // Written to the application table
+    DUPLICATE, // The applicant had already applied for this job
+    REJECTED, // The database refused the row (e.g. the job no longer exists)
+    FAILED // Could not be written because of an unexpected error
+}
\ No newline at end of file
@@ -2,19 +2,58 @@ package com.telusko.jobportal.repository;
 
 // --- IMPORT STATEMENTS ---
 import com.telusko.jobportal.model.Application; // Import the Application entity (assuming it's in model package)
+import com.telusko.jobportal.model.ApplicationPair; // Import the (job, applicant) projection
+import com.telusko.jobportal.model.ApplicationSummary; // Import the admin view projection
 import com.telusko.jobportal.model.Job; // Import the Job entity (assuming it's in model package)
+import org.springframework.data.domain.Limit; // Import Limit
+import org.springframework.data.domain.Page; // Import Page
+import org.springframework.data.domain.Pageable; // Import Pageable
 import org.springframework.data.jpa.repository.JpaRepository; // Import JpaRepository
+import org.springframework.data.jpa.repository.Query; // Import Query annotation
+import org.springframework.data.jpa.repository.QueryHints; // Import QueryHints annotation
+import jakarta.persistence.QueryHint; // Import QueryHint annotation
+import org.hibernate.jpa.HibernateHints; // Import Hibernate query hint names
+import org.springframework.data.repository.query.Param; // Import Param annotation
 import org.springframework.stereotype.Repository; // Import Repository annotation
+import org.springframework.transaction.annotation.Transactional; // Import Transactional annotation
 
 import java.util.List; // Import List
+import java.util.stream.Stream; // Import Stream
 // --- END OF IMPORT STATEMENTS ---
 
 
 // Repository interface for the Application entity
 @Repository // Marks this as a Spring Data JPA repository
+@Transactional(readOnly = true) // Query methods run read-only (on a replica when configured); save/delete keep their own
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
     // Custom method to find all Applications for a specific Job
     // Spring Data JPA implements this based on the method name and the 'job' field in the Application entity
     List<Application> findByJob(Job job);
+
+    // One page of applications for a job, for the admin applications view
+    // Fetch plan: the applicant is joined and only the displayed columns are selected, so a page costs
+    // one select (plus one count) no matter how many applications the job has. Sort by 'applicationDate'.
+    @Query(value = "SELECT new com.telusko.jobportal.model.ApplicationSummary(a.id, u.username, a.applicationDate, a.coverLetter) " +
+            "FROM Application a JOIN a.applicant u WHERE a.job.id = :jobId",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.job.id = :jobId")
+    Page<ApplicationSummary> findSummariesByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    // Every application of a job as a forward-only stream, oldest first, for the CSV/NDJSON export
+    // Rows are DTOs (nothing is kept in the persistence context) fetched from the database cursor in blocks
+    // of FETCH_SIZE, so memory stays flat however many applications there are. On MySQL this needs
+    // useCursorFetch=true in the JDBC URL. Must be consumed inside a (read-only) transaction and closed.
+    @Query("SELECT new com.telusko.jobportal.model.ApplicationSummary(a.id, u.username, a.applicationDate, a.coverLetter) " +
+            "FROM Application a JOIN a.applicant u WHERE a.job.id = :jobId ORDER BY a.applicationDate, a.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ApplicationSummary> streamSummariesByJobId(@Param("jobId") Long jobId);
+
+    // (job, applicant) pairs of applications after the cursor, in id order (used to warm the duplicate check in batches)
+    // Only the two foreign key columns are read, neither the job nor the user table is joined
+    @Query("SELECT new com.telusko.jobportal.model.ApplicationPair(a.id, a.job.id, a.applicant.id) " +
+            "FROM Application a WHERE a.id > :afterId ORDER BY a.id ASC")
+    List<ApplicationPair> findPairsAfter(@Param("afterId") Long afterId, Limit limit);
 }
\ No newline at end of file
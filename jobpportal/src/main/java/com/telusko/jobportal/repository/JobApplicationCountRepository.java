@@ -0,0 +1,39 @@
+package com.telusko.jobportal.repository;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.JobApplicationCount; // Import the per-job counter
+import jakarta.persistence.LockModeType; // Import LockModeType
+import jakarta.persistence.QueryHint; // Import QueryHint
+import org.hibernate.jpa.HibernateHints; // Import Hibernate query hint names
+import org.springframework.data.jpa.repository.JpaRepository; // Import JpaRepository
+import org.springframework.data.jpa.repository.Lock; // Import Lock annotation
+import org.springframework.data.jpa.repository.Modifying; // Import Modifying annotation
+import org.springframework.data.jpa.repository.Query; // Import Query annotation
+import org.springframework.data.jpa.repository.QueryHints; // Import QueryHints annotation
+import org.springframework.data.repository.query.Param; // Import Param annotation
+import org.springframework.stereotype.Repository; // Import Repository annotation
+
+import java.util.Collection; // Import Collection
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+
+// Repository interface for the per-job application counters
+@Repository // Marks this as a Spring Data JPA repository
+public interface JobApplicationCountRepository extends JpaRepository<JobApplicationCount, Long> {
+
+    // Counters of the given jobs, row-locked until the transaction ends (SELECT ... FOR UPDATE) so two
+    // writers cannot both add to the same old value
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM JobApplicationCount c WHERE c.jobId IN :jobIds")
+    List<JobApplicationCount> findForUpdate(@Param("jobIds") Collection<Long> jobIds);
+
+    // Recomputes every counter from the application table (one INSERT ... SELECT, run after deleteAllInBatch)
+    // The native-spaces hint tells Hibernate which table the statement writes, otherwise it would clear the
+    // whole second-level cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_count"))
+    @Query(value = "INSERT INTO job_application_count (job_id, application_count, last_application_at) " +
+            "SELECT job_id, COUNT(*), MAX(application_date) FROM application GROUP BY job_id", nativeQuery = true)
+    int insertFromApplications();
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.telusko.jobportal.repository;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.JobApplicationDailyCount; // Import the per-day counter
+import jakarta.persistence.LockModeType; // Import LockModeType
+import jakarta.persistence.QueryHint; // Import QueryHint
+import org.hibernate.jpa.HibernateHints; // Import Hibernate query hint names
+import org.springframework.data.jpa.repository.JpaRepository; // Import JpaRepository
+import org.springframework.data.jpa.repository.Lock; // Import Lock annotation
+import org.springframework.data.jpa.repository.Modifying; // Import Modifying annotation
+import org.springframework.data.jpa.repository.Query; // Import Query annotation
+import org.springframework.data.jpa.repository.QueryHints; // Import QueryHints annotation
+import org.springframework.data.repository.query.Param; // Import Param annotation
+import org.springframework.stereotype.Repository; // Import Repository annotation
+
+import java.time.LocalDate; // Import LocalDate
+import java.util.Collection; // Import Collection
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+
+// Repository interface for the per-job, per-day application counters
+@Repository // Marks this as a Spring Data JPA repository
+public interface JobApplicationDailyCountRepository
+        extends JpaRepository<JobApplicationDailyCount, JobApplicationDailyCount.Key> {
+
+    // Day counters for any of the jobs on any of the days, row-locked like JobApplicationCountRepository.findForUpdate
+    // (may return a few pairs that were not asked for; the caller matches on job and day)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM JobApplicationDailyCount d WHERE d.jobId IN :jobIds AND d.day IN :days")
+    List<JobApplicationDailyCount> findForUpdate(@Param("jobIds") Collection<Long> jobIds,
+                                                 @Param("days") Collection<LocalDate> days);
+
+    // Recomputes every day counter from the application table (run after deleteAllInBatch)
+    // The native-spaces hint tells Hibernate which table the statement writes, otherwise it would clear the
+    // whole second-level cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_daily_count"))
+    @Query(value = "INSERT INTO job_application_daily_count (job_id, application_day, application_count) " +
+            "SELECT job_id, CAST(application_date AS DATE), COUNT(*) FROM application " +
+            "GROUP BY job_id, CAST(application_date AS DATE)", nativeQuery = true)
+    int insertFromApplications();
+}
\ No newline at end of file
@@ -1,19 +1,114 @@
 package com.telusko.jobportal.repository;
 
 // --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.EntityCacheConfig; // Import the cache region names
 import com.telusko.jobportal.model.Job; // Import the Job entity (assuming it's in model package)
+import com.telusko.jobportal.model.JobDashboardRow; // Import the dashboard projection
+import com.telusko.jobportal.model.JobDetails; // Import the apply page projection
+import com.telusko.jobportal.model.JobDocument; // Import the search document projection
+import com.telusko.jobportal.model.JobFacetRow; // Import the facet index projection
+import com.telusko.jobportal.model.JobSummary; // Import the listing projection
+import jakarta.persistence.QueryHint; // Import QueryHint
+import org.hibernate.jpa.HibernateHints; // Import Hibernate query hint names
+import org.springframework.data.domain.Limit; // Import Limit (row cap for keyset pages)
 import org.springframework.data.jpa.repository.JpaRepository; // Import JpaRepository
+import org.springframework.data.jpa.repository.Query; // Import Query annotation
+import org.springframework.data.jpa.repository.QueryHints; // Import QueryHints annotation
+import org.springframework.data.repository.query.Param; // Import Param annotation
 import org.springframework.stereotype.Repository; // Import Repository annotation
+import org.springframework.transaction.annotation.Transactional; // Import Transactional annotation
 
+import java.time.LocalDate; // Import LocalDate
 import java.util.List; // Import List
+import java.util.Optional; // Import Optional
 // --- END OF IMPORT STATEMENTS ---
 
 
 // Repository interface for the Job entity
 @Repository // Marks this as a Spring Data JPA repository
+@Transactional(readOnly = true) // Query methods run read-only (on a replica when configured); save/delete keep their own
 public interface JobRepository extends JpaRepository<Job, Long> {
 
     // Custom method to find all Jobs posted by a specific User
     // Spring Data JPA implements this based on the method name and the 'postedBy' field in the Job entity
+    // Query-cached (job ids only, the jobs themselves come from the entity cache) until the job table changes
+    // Read-write so it runs on the primary: cached results must not come from a lagging replica
+    @Transactional
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheConfig.JOB_QUERY_REGION)})
     List<Job> findByPostedBy(User postedBy);
+
+    // Everything the apply page shows of one job, poster's username joined in
+    // The description is a lazy attribute of Job, so pages that only need the entity (the admin ownership
+    // checks) never read it; this query is the one place it is fetched for display. Query-cached like above,
+    // so repeat views of a job page cost no database access until the job or user table changes.
+    // Runs on the primary (read-write) like all query-cached methods: a replica that has not received a job the
+    // listing already shows would otherwise cache "no such job" for it.
+    @Transactional
+    @Query("SELECT new com.telusko.jobportal.model.JobDetails(j.id, j.title, j.description, j.location, u.username) " +
+            "FROM Job j JOIN j.postedBy u WHERE j.id = :jobId")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheConfig.JOB_QUERY_REGION)})
+    Optional<JobDetails> findDetailsById(@Param("jobId") Long jobId);
+
+    // Days covered by the "recent applications" column of the admin dashboard (today included)
+    int DASHBOARD_RECENT_DAYS = 7;
+
+    // The admin's jobs with their application counters, newest first, in one query
+    // Counts come from the materialized counter tables (ApplicationCountService), never from COUNT(*) over
+    // the application table; day counters are only joined for the last DASHBOARD_RECENT_DAYS days.
+    // Pass today = the current date and since = today minus (DASHBOARD_RECENT_DAYS - 1) days.
+    @Query("SELECT new com.telusko.jobportal.model.JobDashboardRow(j.id, j.title, j.location, " +
+            "c.applicationCount, c.lastApplicationAt, " +
+            "SUM(CASE WHEN d.day = :today THEN d.applicationCount ELSE 0 END), SUM(d.applicationCount)) " +
+            "FROM Job j " +
+            "LEFT JOIN JobApplicationCount c ON c.jobId = j.id " +
+            "LEFT JOIN JobApplicationDailyCount d ON d.jobId = j.id AND d.day >= :since " +
+            "WHERE j.postedBy.id = :adminId " +
+            "GROUP BY j.id, j.title, j.location, c.applicationCount, c.lastApplicationAt " +
+            "ORDER BY j.id DESC")
+    List<JobDashboardRow> findDashboardRows(@Param("adminId") Long adminId,
+                                            @Param("today") LocalDate today, @Param("since") LocalDate since);
+
+    // --- Keyset (seek) pagination for the job listing ---
+    // Pages are addressed by the id of the row at their edge instead of an OFFSET, so the database
+    // seeks straight into the primary key (or location, id) index and reads only 'limit' rows,
+    // no matter how deep the user has paged. Only the listing columns are selected.
+
+    // Jobs older than the cursor, newest first (first page: beforeId = Long.MAX_VALUE)
+    @Query("SELECT new com.telusko.jobportal.model.JobSummary(j.id, j.title, j.location) " +
+            "FROM Job j WHERE j.id < :beforeId ORDER BY j.id DESC")
+    List<JobSummary> findSummariesBefore(@Param("beforeId") Long beforeId, Limit limit);
+
+    // Jobs newer than the cursor, oldest first (used for the "previous page" link, caller reverses the rows)
+    @Query("SELECT new com.telusko.jobportal.model.JobSummary(j.id, j.title, j.location) " +
+            "FROM Job j WHERE j.id > :afterId ORDER BY j.id ASC")
+    List<JobSummary> findSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Same as findSummariesBefore, restricted to one location
+    @Query("SELECT new com.telusko.jobportal.model.JobSummary(j.id, j.title, j.location) " +
+            "FROM Job j WHERE j.location = :location AND j.id < :beforeId ORDER BY j.id DESC")
+    List<JobSummary> findSummariesByLocationBefore(@Param("location") String location,
+                                                   @Param("beforeId") Long beforeId, Limit limit);
+
+    // Same as findSummariesAfter, restricted to one location
+    @Query("SELECT new com.telusko.jobportal.model.JobSummary(j.id, j.title, j.location) " +
+            "FROM Job j WHERE j.location = :location AND j.id > :afterId ORDER BY j.id ASC")
+    List<JobSummary> findSummariesByLocationAfter(@Param("location") String location,
+                                                  @Param("afterId") Long afterId, Limit limit);
+
+    // Searchable text of jobs after the cursor, in id order (used to load the search index in batches)
+    @Query("SELECT new com.telusko.jobportal.model.JobDocument(j.id, j.title, j.description, j.location) " +
+            "FROM Job j WHERE j.id > :afterId ORDER BY j.id ASC")
+    List<JobDocument> findDocumentsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Filterable attributes of jobs after the cursor, in id order (used to load the facet index in batches)
+    @Query("SELECT new com.telusko.jobportal.model.JobFacetRow(j.id, j.location, u.id, u.username, j.postedAt) " +
+            "FROM Job j JOIN j.postedBy u WHERE j.id > :afterId ORDER BY j.id ASC")
+    List<JobFacetRow> findFacetRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Listing rows of the given jobs, newest first (a page of the filtered listing, ids from JobFacetIndex)
+    @Query("SELECT new com.telusko.jobportal.model.JobSummary(j.id, j.title, j.location) " +
+            "FROM Job j WHERE j.id IN :ids ORDER BY j.id DESC")
+    List<JobSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.telusko.jobportal.repository; // Placing User entity here based on controller imports
 
 // --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.EntityCacheConfig; // Import the cache region names
 import com.telusko.jobportal.model.Role; // Import your Role enum
 import jakarta.persistence.*; // Import JPA annotations
+import org.hibernate.annotations.Cache; // Import Hibernate's Cache annotation
+import org.hibernate.annotations.CacheConcurrencyStrategy; // Import CacheConcurrencyStrategy
 // --- END OF IMPORT STATEMENTS ---
 
 
 @Entity // Marks this class as a JPA entity
 @Table(name = "user") // Maps this entity to the 'user' table in the database
+@Cacheable // Kept in the second-level cache (see EntityCacheConfig)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USER_REGION) // Passwords get re-hashed, so updates must stay consistent
 public class User {
 
     @Id // Marks this field as the primary key
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-generate the primary key value
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq") // Pooled ids, keeps inserts batchable
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50) // One sequence call per 50 users
     private Long id; // Primary key
 
     @Column(nullable = false, unique = true) // Maps to the 'username' column, must not be null and must be unique
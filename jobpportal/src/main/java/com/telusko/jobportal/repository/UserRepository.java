@@ -1,8 +1,13 @@
 package com.telusko.jobportal.repository;
 
 // --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.EntityCacheConfig; // Import the cache region names
+import jakarta.persistence.QueryHint; // Import QueryHint
+import org.hibernate.jpa.HibernateHints; // Import Hibernate query hint names
 import org.springframework.data.jpa.repository.JpaRepository; // Import JpaRepository
+import org.springframework.data.jpa.repository.QueryHints; // Import QueryHints annotation
 import org.springframework.stereotype.Repository; // Import Repository annotation
+import org.springframework.transaction.annotation.Transactional; // Import Transactional annotation
 
 import java.util.Optional; // Import Optional
 // --- END OF IMPORT STATEMENTS ---
@@ -10,9 +15,16 @@ import java.util.Optional; // Import Optional
 // Repository interface for the User entity
 // Extends JpaRepository to get standard CRUD operations
 @Repository // Marks this as a Spring Data JPA repository
+@Transactional(readOnly = true) // Query methods run read-only (on a replica when configured); save/delete keep their own
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // Custom method to find a User by their username
     // Spring Data JPA automatically implements this based on the method name
+    // Runs on every login and registration: the result (including "no such user") is query-cached and
+    // dropped by Hibernate whenever the user table is written
+    // Read-write so it runs on the primary: a just-registered user missing on a replica must not be cached
+    @Transactional
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheConfig.USER_QUERY_REGION)})
     Optional<User> findByUsername(String username);
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.Application; // Import Application entity
+import com.telusko.jobportal.model.JobApplicationCount; // Import the per-job counter
+import com.telusko.jobportal.model.JobApplicationDailyCount; // Import the per-day counter
+import com.telusko.jobportal.repository.ApplicationRepository; // Import ApplicationRepository
+import com.telusko.jobportal.repository.JobApplicationCountRepository; // Import the counter repository
+import com.telusko.jobportal.repository.JobApplicationDailyCountRepository; // Import the day counter repository
+import jakarta.annotation.PostConstruct; // Import PostConstruct
+import jakarta.persistence.EntityManager; // Import EntityManager
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.stereotype.Service; // Import Service annotation
+import org.springframework.transaction.PlatformTransactionManager; // Import PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate; // Import TransactionTemplate
+
+import java.time.LocalDate; // Import LocalDate
+import java.time.LocalDateTime; // Import LocalDateTime
+import java.util.HashMap; // Import HashMap
+import java.util.HashSet; // Import HashSet
+import java.util.List; // Import List
+import java.util.Map; // Import Map
+import java.util.Set; // Import Set
+// --- END OF IMPORT STATEMENTS ---
+
+// Keeps the materialized application counters (JobApplicationCount, JobApplicationDailyCount) in step
+// with the application table
+// record() is called by the application writer inside the transaction that inserts the applications:
+// it aggregates the batch per job and per (job, day), locks the affected counter rows with one select
+// each, and changes them in memory. Hibernate writes the changes as batched UPDATEs/INSERTs at commit,
+// so a batch of applications costs two extra selects plus a few batched statements, and the counters
+// commit (or roll back) together with the applications they count.
+@Service // Mark this as a Spring service
+public class ApplicationCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationCountService.class);
+
+    private final JobApplicationCountRepository countRepository;
+    private final JobApplicationDailyCountRepository dailyCountRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EntityManager entityManager; // persist() for new counters (save() would merge, which selects first)
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup; // portal.startup-tasks.enabled (see StartupConfig)
+
+    // Constructor injection
+    public ApplicationCountService(JobApplicationCountRepository countRepository,
+                                   JobApplicationDailyCountRepository dailyCountRepository,
+                                   ApplicationRepository applicationRepository, EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${portal.startup-tasks.enabled:true}") boolean backfillOnStartup) {
+        this.countRepository = countRepository;
+        this.dailyCountRepository = dailyCountRepository;
+        this.applicationRepository = applicationRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    // First start with the counter tables: fill them from the existing applications
+    // Runs before the application writer starts (SmartLifecycle beans start after all singletons are created)
+    @PostConstruct
+    public void backfillIfEmpty() {
+        if (backfillOnStartup && countRepository.count() == 0 && applicationRepository.count() > 0) {
+            rebuildCounts();
+        }
+    }
+
+    // Adds freshly inserted applications to the counters; must run inside the inserting transaction
+    public void record(List<Application> applications) {
+        Map<Long, Aggregate> byJob = new HashMap<>();
+        Map<JobApplicationDailyCount.Key, Long> byJobAndDay = new HashMap<>();
+        Set<LocalDate> days = new HashSet<>();
+        for (Application application : applications) {
+            Long jobId = application.getJob().getId(); // Reading the id does not initialize the job proxy
+            LocalDateTime date = application.getApplicationDate();
+            byJob.computeIfAbsent(jobId, id -> new Aggregate()).add(date);
+            LocalDate day = date.toLocalDate();
+            days.add(day);
+            byJobAndDay.merge(new JobApplicationDailyCount.Key(jobId, day), 1L, Long::sum);
+        }
+
+        Map<Long, JobApplicationCount> counts = new HashMap<>();
+        for (JobApplicationCount count : countRepository.findForUpdate(byJob.keySet())) {
+            counts.put(count.getJobId(), count);
+        }
+        for (Map.Entry<Long, Aggregate> entry : byJob.entrySet()) {
+            JobApplicationCount count = counts.get(entry.getKey());
+            if (count == null) {
+                count = new JobApplicationCount(entry.getKey());
+                entityManager.persist(count); // Managed from here, inserted at commit
+            }
+            count.add(entry.getValue().applications, entry.getValue().latest);
+        }
+
+        Map<JobApplicationDailyCount.Key, JobApplicationDailyCount> dayCounts = new HashMap<>();
+        for (JobApplicationDailyCount dayCount : dailyCountRepository.findForUpdate(byJob.keySet(), days)) {
+            dayCounts.put(new JobApplicationDailyCount.Key(dayCount.getJobId(), dayCount.getDay()), dayCount);
+        }
+        for (Map.Entry<JobApplicationDailyCount.Key, Long> entry : byJobAndDay.entrySet()) {
+            JobApplicationDailyCount dayCount = dayCounts.get(entry.getKey());
+            if (dayCount == null) {
+                dayCount = new JobApplicationDailyCount(entry.getKey().getJobId(), entry.getKey().getDay());
+                entityManager.persist(dayCount);
+            }
+            dayCount.add(entry.getValue());
+        }
+    }
+
+    // Recomputes all counters from the application table in one transaction
+    // Used for the first backfill and to repair counters after applications were written around record()
+    // (e.g. bulk loads straight into the table); blocks the application writer while it runs
+    public void rebuildCounts() {
+        long start = System.nanoTime();
+        int jobs = transactionTemplate.execute(tx -> {
+            countRepository.deleteAllInBatch();
+            dailyCountRepository.deleteAllInBatch();
+            dailyCountRepository.insertFromApplications();
+            return countRepository.insertFromApplications();
+        });
+        log.info("Application counters rebuilt for {} jobs in {} ms", jobs, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Applications of one job within a batch
+    private static final class Aggregate {
+        private long applications;
+        private LocalDateTime latest;
+
+        private void add(LocalDateTime date) {
+            applications++;
+            if (latest == null || date.isAfter(latest)) {
+                latest = date;
+            }
+        }
+    }
+}
\ No newline at end of file
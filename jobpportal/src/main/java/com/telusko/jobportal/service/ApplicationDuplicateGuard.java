@@ -0,0 +1,137 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.ApplicationPair; // Import the (job, applicant) projection
+import com.telusko.jobportal.repository.ApplicationRepository; // Import ApplicationRepository
+import io.micrometer.core.instrument.FunctionCounter; // Import FunctionCounter
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Import ApplicationReadyEvent
+import org.springframework.context.event.EventListener; // Import EventListener
+import org.springframework.data.domain.Limit; // Import Limit
+import org.springframework.stereotype.Component; // Import Component annotation
+
+import java.util.List; // Import List
+import java.util.concurrent.atomic.LongAdder; // Import LongAdder
+// --- END OF IMPORT STATEMENTS ---
+
+// In-memory record of who has applied for what, so repeated applications are turned away without a query
+// Every (job, applicant) pair is packed into one long (job id in the high 32 bits, applicant id in the low
+// 32) and kept in a StripedLongSet, loaded from the application table after startup and added to as
+// applications are submitted. reserve() is atomic, so two racing submits of the same pair cannot both pass.
+//
+// The set is a shortcut, the (job_id, applicant_id) unique constraint is the authority: pairs the set has
+// not seen yet (index still loading, ids beyond 32 bits, rows written by another instance) pass through
+// and a duplicate insert is then refused by the database (ApplicationSubmissionService marks it DUPLICATE).
+@Component // Spring manages this as a bean
+public class ApplicationDuplicateGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationDuplicateGuard.class);
+
+    // Rows read per query while loading the pairs at startup
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    // Ids must fit in 32 bits to be packed
+    private static final long MAX_PACKED_ID = 0xFFFF_FFFFL;
+
+    private final ApplicationRepository applicationRepository;
+    private final StripedLongSet pairs = new StripedLongSet();
+
+    private volatile boolean ready; // true once the startup load has finished
+
+    // Metrics
+    private final LongAdder duplicatesInMemory = new LongAdder();
+    private final LongAdder duplicatesInDatabase = new LongAdder();
+
+    // Constructor injection
+    public ApplicationDuplicateGuard(ApplicationRepository applicationRepository, MeterRegistry meterRegistry) {
+        this.applicationRepository = applicationRepository;
+
+        FunctionCounter.builder("portal.applications.duplicates", duplicatesInMemory, LongAdder::sum)
+                .tag("detected_by", "memory").description("Repeat applications turned away before reaching the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("portal.applications.duplicates", duplicatesInDatabase, LongAdder::sum)
+                .tag("detected_by", "database").description("Repeat applications refused by the unique constraint")
+                .register(meterRegistry);
+        Gauge.builder("portal.applications.duplicate.guard.size", pairs, StripedLongSet::size)
+                .description("(job, applicant) pairs held in memory").register(meterRegistry);
+    }
+
+    // Loads every existing pair on a background thread so startup is not held up
+    // Until it finishes, unknown pairs simply fall through to the unique constraint
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPairs() {
+        Thread loader = new Thread(this::loadAllPairs, "application-pairs-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // Claims the pair for a new application; false if this applicant already applied (or is applying) for the job
+    public boolean reserve(Long jobId, Long applicantId) {
+        long key = pack(jobId, applicantId);
+        if (key == 0) {
+            return true; // Cannot be tracked, leave it to the unique constraint
+        }
+        if (pairs.add(key)) {
+            return true;
+        }
+        duplicatesInMemory.increment();
+        return false;
+    }
+
+    // Gives up a reservation whose application was not saved (e.g. the job was deleted), so the user can apply again
+    public void release(Long jobId, Long applicantId) {
+        long key = pack(jobId, applicantId);
+        if (key != 0) {
+            pairs.remove(key);
+        }
+    }
+
+    // Notes a duplicate the database caught; the pair stays reserved
+    public void duplicateRejectedByDatabase(Long jobId, Long applicantId) {
+        duplicatesInDatabase.increment();
+        long key = pack(jobId, applicantId);
+        if (key != 0) {
+            pairs.add(key);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Job id in the high 32 bits, applicant id in the low 32; 0 when either id cannot be packed
+    static long pack(Long jobId, Long applicantId) {
+        if (jobId == null || applicantId == null || jobId <= 0 || applicantId <= 0
+                || jobId > MAX_PACKED_ID || applicantId > MAX_PACKED_ID) {
+            return 0;
+        }
+        return (jobId << 32) | applicantId;
+    }
+
+    // Walks the application table in id order with keyset batches, reading only the two foreign keys
+    private void loadAllPairs() {
+        long start = System.nanoTime();
+        try {
+            long lastId = 0;
+            List<ApplicationPair> batch;
+            do {
+                batch = applicationRepository.findPairsAfter(lastId, Limit.of(LOAD_BATCH_SIZE));
+                for (ApplicationPair pair : batch) {
+                    long key = pack(pair.getJobId(), pair.getApplicantId());
+                    if (key != 0) {
+                        pairs.add(key);
+                    }
+                    lastId = pair.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            ready = true;
+            log.info("Application duplicate guard loaded: {} pairs in {} ms", pairs.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Loading the application duplicate guard failed; duplicates will be caught by the database only", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,278 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.event.ApplicationsSavedEvent; // Import the applications saved event
+import io.micrometer.core.instrument.FunctionCounter; // Import FunctionCounter
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.DisposableBean; // Import DisposableBean
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.context.event.EventListener; // Import EventListener
+import org.springframework.http.MediaType; // Import MediaType
+import org.springframework.stereotype.Component; // Import Component annotation
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter; // Import SseEmitter
+
+import java.io.IOException; // Import IOException
+import java.util.ArrayList; // Import ArrayList
+import java.util.HashMap; // Import HashMap
+import java.util.List; // Import List
+import java.util.Map; // Import Map
+import java.util.Optional; // Import Optional
+import java.util.Set; // Import Set
+import java.util.concurrent.ArrayBlockingQueue; // Import ArrayBlockingQueue
+import java.util.concurrent.ConcurrentHashMap; // Import ConcurrentHashMap
+import java.util.concurrent.ExecutorService; // Import ExecutorService
+import java.util.concurrent.Executors; // Import Executors
+import java.util.concurrent.ScheduledExecutorService; // Import ScheduledExecutorService
+import java.util.concurrent.ThreadFactory; // Import ThreadFactory
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean; // Import AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger; // Import AtomicInteger
+import java.util.concurrent.atomic.LongAdder; // Import LongAdder
+// --- END OF IMPORT STATEMENTS ---
+
+// Fan-out of newly saved applications to the job owners watching them over server-sent events
+// Subscribers register per job. When the application writer publishes ApplicationsSavedEvent, the
+// applications of each job in the batch are offered to the buffer of every subscriber of that job; that is
+// all the writer thread does (no I/O, no database). A small pool of sender threads drains the buffers into
+// the SSE responses, one SSE event per application.
+//
+// Each subscriber buffers up to 'buffer-size' written batches. A client that cannot keep up (slow network,
+// sleeping laptop, dead connection) fills its buffer and is disconnected instead of holding memory or
+// slowing the others down; the browser's EventSource reconnects on its own. Periodic keep-alive comments
+// go through the same buffers, so dead connections are found even on quiet jobs.
+// An idle subscriber costs its emitter plus one small array, and nothing is polled.
+@Component // Spring manages this as a bean
+public class ApplicationEventHub implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationEventHub.class);
+
+    // Buffer entry for a keep-alive comment
+    private static final Object KEEP_ALIVE = new Object();
+
+    private final int bufferSize; // Batches held per subscriber before it counts as slow
+    private final int maxSubscribers; // Open streams across all jobs
+    private final long timeoutMillis; // Streams are closed after this long (the browser reconnects)
+
+    private final Map<Long, Set<Subscriber>> subscribersByJob = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders; // Write buffered events to the responses
+    private final ScheduledExecutorService keepAlive; // Offers a keep-alive comment to everyone periodically
+
+    // Metrics
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder droppedSlow = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    // Constructor injection
+    public ApplicationEventHub(MeterRegistry meterRegistry,
+                               @Value("${portal.application-events.buffer-size:32}") int bufferSize,
+                               @Value("${portal.application-events.max-subscribers:10000}") int maxSubscribers,
+                               @Value("${portal.application-events.timeout-ms:1800000}") long timeoutMillis,
+                               @Value("${portal.application-events.keep-alive-seconds:25}") long keepAliveSeconds,
+                               @Value("${portal.application-events.sender-threads:2}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemonThreads("application-events-sender-"));
+        this.keepAlive = Executors.newSingleThreadScheduledExecutor(daemonThreads("application-events-keep-alive-"));
+        this.keepAlive.scheduleWithFixedDelay(this::sendKeepAlive, keepAliveSeconds, keepAliveSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("portal.application.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open application event streams").register(meterRegistry);
+        FunctionCounter.builder("portal.application.events.delivered", delivered, LongAdder::sum)
+                .description("Application events written to subscribers").register(meterRegistry);
+        FunctionCounter.builder("portal.application.events.dropped", droppedSlow, LongAdder::sum)
+                .tag("reason", "slow").description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("portal.application.events.dropped", refused, LongAdder::sum)
+                .tag("reason", "limit").description("Subscriptions refused because max-subscribers was reached")
+                .register(meterRegistry);
+    }
+
+    // Opens an event stream for one job; empty when 'max-subscribers' streams are already open
+    // The caller must have checked that the current user owns the job
+    public Optional<SseEmitter> subscribe(Long jobId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            refused.increment();
+            return Optional.empty();
+        }
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(jobId, emitter);
+        subscribersByJob.compute(jobId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        try {
+            // Sent as soon as the response starts, so the client knows the stream is open
+            emitter.send(SseEmitter.event().comment("subscribed").reconnectTime(5_000));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+        }
+        return Optional.of(emitter);
+    }
+
+    // Runs on the application writer thread right after a batch commits; only queues, never blocks
+    // A batch takes one buffer slot per subscriber, however many applications it holds for the job
+    @EventListener
+    public void onApplicationsSaved(ApplicationsSavedEvent event) {
+        if (subscribersByJob.isEmpty()) {
+            return;
+        }
+        Map<Long, List<ApplicationsSavedEvent.SavedApplication>> watchedByJob = new HashMap<>();
+        for (ApplicationsSavedEvent.SavedApplication application : event.getApplications()) {
+            if (subscribersByJob.containsKey(application.getJobId())) {
+                watchedByJob.computeIfAbsent(application.getJobId(), id -> new ArrayList<>()).add(application);
+            }
+        }
+        for (Map.Entry<Long, List<ApplicationsSavedEvent.SavedApplication>> entry : watchedByJob.entrySet()) {
+            Set<Subscriber> subscribers = subscribersByJob.get(entry.getKey());
+            if (subscribers == null) {
+                continue; // Last subscriber just left
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry.getValue());
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long droppedSlowCount() {
+        return droppedSlow.sum();
+    }
+
+    @Override
+    public void destroy() {
+        keepAlive.shutdownNow();
+        senders.shutdownNow();
+        for (Set<Subscriber> subscribers : subscribersByJob.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.close();
+            }
+        }
+    }
+
+    // Separate so tests can stand in for a slow or broken client
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void sendKeepAlive() {
+        for (Set<Subscriber> subscribers : subscribersByJob.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(KEEP_ALIVE);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribersByJob.computeIfPresent(subscriber.jobId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // One open stream: its bounded buffer and the flag that keeps at most one drain task queued for it
+    private final class Subscriber {
+
+        private final Long jobId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean(); // A drain task is queued or running
+        private final AtomicBoolean removed = new AtomicBoolean(); // Unsubscribed from the hub
+        private volatile boolean closed; // No more events will be sent
+
+        private Subscriber(Long jobId, SseEmitter emitter) {
+            this.jobId = jobId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Object item) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(item)) {
+                // Slow consumer: stop feeding it; the emitter is completed from a sender thread, never here
+                droppedSlow.increment();
+                closed = true;
+                unsubscribe(this);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false); // Shutting down
+                }
+            }
+        }
+
+        // Runs on a sender thread: writes everything buffered, then completes the stream if it was closed
+        private void drain() {
+            try {
+                Object item;
+                while (!closed && (item = buffer.poll()) != null) {
+                    if (item == KEEP_ALIVE) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        List<ApplicationsSavedEvent.SavedApplication> applications = (List<ApplicationsSavedEvent.SavedApplication>) item;
+                        for (ApplicationsSavedEvent.SavedApplication application : applications) {
+                            emitter.send(SseEmitter.event().name("application").id(String.valueOf(application.getId()))
+                                    .data(application, MediaType.APPLICATION_JSON));
+                            delivered.increment();
+                        }
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away (or the emitter already completed)
+                log.debug("Application event stream for job {} closed: {}", jobId, e.getMessage());
+                closed = true;
+                unsubscribe(this);
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                buffer.clear();
+                close();
+            } else if (!buffer.isEmpty()) {
+                scheduleDrain(); // Events offered while this task was finishing
+            }
+        }
+
+        private void close() {
+            closed = true;
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // Already completed
+            }
+        }
+    }
+}
\ No newline at end of file
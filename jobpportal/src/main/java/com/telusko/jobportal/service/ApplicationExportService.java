@@ -0,0 +1,133 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.fasterxml.jackson.core.JsonGenerator; // Import JsonGenerator
+import com.fasterxml.jackson.databind.ObjectMapper; // Import ObjectMapper
+import com.telusko.jobportal.model.ApplicationSummary; // Import the exported row
+import com.telusko.jobportal.repository.ApplicationRepository; // Import ApplicationRepository
+import org.springframework.stereotype.Service; // Import Service annotation
+import org.springframework.transaction.PlatformTransactionManager; // Import PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate; // Import TransactionTemplate
+
+import java.io.BufferedWriter; // Import BufferedWriter
+import java.io.IOException; // Import IOException
+import java.io.OutputStream; // Import OutputStream
+import java.io.OutputStreamWriter; // Import OutputStreamWriter
+import java.io.UncheckedIOException; // Import UncheckedIOException
+import java.io.Writer; // Import Writer
+import java.nio.charset.StandardCharsets; // Import StandardCharsets
+import java.time.format.DateTimeFormatter; // Import DateTimeFormatter
+import java.util.Iterator; // Import Iterator
+import java.util.stream.Stream; // Import Stream
+// --- END OF IMPORT STATEMENTS ---
+
+// Writes all applications of a job as CSV or NDJSON (one JSON object per line)
+// Rows flow from the database cursor (ApplicationRepository.streamSummariesByJobId) through a small buffer
+// straight into the response, one at a time, so exporting 100 or 1,000,000 applications uses the same memory.
+// Ownership must be checked by the caller.
+@Service // Mark this as a Spring service
+public class ApplicationExportService {
+
+    // Supported export formats
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        // "ndjson"/"json" select NDJSON, anything else CSV
+        public static Format fromParameter(String value) {
+            return "ndjson".equalsIgnoreCase(value) || "json".equalsIgnoreCase(value) ? NDJSON : CSV;
+        }
+    }
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate readOnlyTransaction; // The stream only lives inside a transaction
+    private final ObjectMapper objectMapper; // Only its JsonFactory is used, for NDJSON
+
+    // Constructor injection
+    public ApplicationExportService(ApplicationRepository applicationRepository,
+                                    PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.applicationRepository = applicationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    // Streams the job's applications (oldest first) to 'out'; does not close 'out'
+    public void export(Long jobId, Format format, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ApplicationSummary> rows = applicationRepository.streamSummariesByJobId(jobId)) {
+                if (format == Format.NDJSON) {
+                    writeNdjson(rows.iterator(), out);
+                } else {
+                    writeCsv(rows.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Export of applications for job " + jobId + " failed", e);
+            }
+        });
+    }
+
+    private void writeCsv(Iterator<ApplicationSummary> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,applicant,applied_at,cover_letter\r\n");
+        while (rows.hasNext()) {
+            ApplicationSummary row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(csvField(row.getApplicantUsername()));
+            writer.write(',');
+            writer.write(row.getApplicationDate() == null ? "" : DATE_FORMAT.format(row.getApplicationDate()));
+            writer.write(',');
+            writer.write(csvField(row.getCoverLetter()));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<ApplicationSummary> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            ApplicationSummary row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getId());
+            generator.writeStringField("applicant", row.getApplicantUsername());
+            generator.writeStringField("appliedAt",
+                    row.getApplicationDate() == null ? null : DATE_FORMAT.format(row.getApplicationDate()));
+            generator.writeStringField("coverLetter", row.getCoverLetter());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    // RFC 4180 quoting; values that a spreadsheet would run as a formula get a leading apostrophe
+    static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safe = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            return safe;
+        }
+        return '"' + safe.replace("\"", "\"\"") + '"';
+    }
+}
\ No newline at end of file
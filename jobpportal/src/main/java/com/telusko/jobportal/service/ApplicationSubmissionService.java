@@ -0,0 +1,395 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.event.ApplicationsSavedEvent; // Import the applications saved event
+import com.telusko.jobportal.model.Application; // Import Application entity
+import com.telusko.jobportal.model.ApplicationSubmission; // Import the queued application
+import com.telusko.jobportal.model.SubmissionStatus; // Import the submission status
+import com.telusko.jobportal.repository.ApplicationRepository; // Import ApplicationRepository
+import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
+import com.telusko.jobportal.repository.UserRepository; // Import UserRepository
+import io.micrometer.core.instrument.Counter; // Import Counter
+import io.micrometer.core.instrument.DistributionSummary; // Import DistributionSummary
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import io.micrometer.core.instrument.Timer; // Import Timer
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.context.ApplicationEventPublisher; // Import ApplicationEventPublisher
+import org.springframework.context.SmartLifecycle; // Import SmartLifecycle
+import org.springframework.dao.DataIntegrityViolationException; // Import DataIntegrityViolationException
+import org.springframework.stereotype.Service; // Import Service annotation
+import org.springframework.transaction.PlatformTransactionManager; // Import PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate; // Import TransactionTemplate
+import org.hibernate.exception.ConstraintViolationException; // Import Hibernate's ConstraintViolationException
+
+import java.nio.charset.StandardCharsets; // Import StandardCharsets
+import java.time.LocalDateTime; // Import LocalDateTime
+import java.util.ArrayList; // Import ArrayList
+import java.util.Comparator; // Import Comparator
+import java.util.List; // Import List
+import java.util.Locale; // Import Locale
+import java.util.Map; // Import Map
+import java.util.UUID; // Import UUID
+import java.util.concurrent.ArrayBlockingQueue; // Import ArrayBlockingQueue
+import java.util.concurrent.BlockingQueue; // Import BlockingQueue
+import java.util.concurrent.ConcurrentHashMap; // Import ConcurrentHashMap
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+// --- END OF IMPORT STATEMENTS ---
+
+// Asynchronous ingestion pipeline for job applications
+// The apply handler only validates and enqueues (no database access), then redirects right away with a
+// ticket. A single writer thread drains the bounded queue and inserts the rows in JDBC batches inside one
+// transaction per batch, so a burst of thousands of applications uses one pooled connection instead of
+// one per request. Rows are persisted through JPA: Application ids come from a pooled sequence, so
+// Hibernate groups the inserts into batches of 'hibernate.jdbc.batch_size'.
+//
+// Duplicates: submit() first claims the (job, applicant) pair in ApplicationDuplicateGuard, so a repeat is refused
+// with DuplicateApplicationException before it is queued; the unique constraint catches whatever the guard misses.
+// Notifications: after each commit an ApplicationsSavedEvent is published on the writer thread (ApplicationEventHub
+// pushes it to job owners watching their applications live).
+// Backpressure: when the queue is full, submit() waits briefly and then throws SubmissionQueueFullException.
+// The queue is bounded by count, so submit() also refuses cover letters longer than the column holds
+// (CoverLetterTooLongException) to bound it in bytes.
+// Shutdown: stop() runs after the web server has stopped taking requests; it drains and writes everything
+// still queued before returning, so accepted applications are not lost on a graceful shutdown.
+@Service // Mark this as a Spring service
+public class ApplicationSubmissionService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationSubmissionService.class);
+
+    // Longest cover letter accepted, in UTF-8 bytes: a MySQL BLOB holds 64 KiB, and a text that does not
+    // compress is stored as is (CompressedTextConverter)
+    public static final int MAX_COVER_LETTER_BYTES = 65_535;
+
+    // How long finished tickets can still be looked up
+    private static final long STATUS_RETENTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final long STATUS_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final ApplicationCountService applicationCountService; // Per-job counters, updated with each batch
+    private final ApplicationDuplicateGuard duplicateGuard; // In-memory (job, applicant) pairs
+    private final ApplicationEventPublisher eventPublisher; // Announces committed applications
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ApplicationSubmission> queue;
+    private final Map<String, TicketStatus> statuses = new ConcurrentHashMap<>();
+
+    private final int batchSize; // Max rows per JDBC batch / transaction
+    private final long maxBatchWaitMillis; // How long the writer waits to fill a batch
+    private final long enqueueTimeoutMillis; // How long a request waits for queue space
+    private final long shutdownTimeoutMillis; // Upper bound for draining on shutdown
+    private final int maxTrackedTickets; // Finished tickets are dropped early above this many
+
+    // Metrics
+    private final Counter savedCounter;
+    private final Counter rejectedCounter;
+    private final Counter duplicateCounter;
+    private final Counter failedCounter;
+    private final Counter queueFullCounter;
+    private final DistributionSummary batchSizes;
+    private final Timer batchTimer;
+
+    private volatile boolean accepting; // false before start() and after stop() began
+    private volatile Thread writer;
+    private long lastStatusSweep = System.nanoTime();
+
+    // Constructor injection
+    public ApplicationSubmissionService(ApplicationRepository applicationRepository, JobRepository jobRepository,
+                                        UserRepository userRepository, ApplicationCountService applicationCountService,
+                                        ApplicationDuplicateGuard duplicateGuard,
+                                        ApplicationEventPublisher eventPublisher,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${portal.applications.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${portal.applications.batch-size:200}") int batchSize,
+                                        @Value("${portal.applications.max-batch-wait-ms:50}") long maxBatchWaitMillis,
+                                        @Value("${portal.applications.enqueue-timeout-ms:100}") long enqueueTimeoutMillis,
+                                        @Value("${portal.applications.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis,
+                                        @Value("${portal.applications.max-tracked-tickets:100000}") int maxTrackedTickets) {
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.applicationCountService = applicationCountService;
+        this.duplicateGuard = duplicateGuard;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxBatchWaitMillis = maxBatchWaitMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.maxTrackedTickets = maxTrackedTickets;
+
+        Gauge.builder("portal.applications.queue.depth", queue, BlockingQueue::size)
+                .description("Applications accepted but not yet written").register(meterRegistry);
+        this.savedCounter = Counter.builder("portal.applications.written").tag("result", "saved").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("portal.applications.written").tag("result", "rejected").register(meterRegistry);
+        this.duplicateCounter = Counter.builder("portal.applications.written").tag("result", "duplicate").register(meterRegistry);
+        this.failedCounter = Counter.builder("portal.applications.written").tag("result", "failed").register(meterRegistry);
+        this.queueFullCounter = Counter.builder("portal.applications.queue.full")
+                .description("Submissions turned away because the queue was full").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("portal.applications.batch.size").register(meterRegistry);
+        this.batchTimer = Timer.builder("portal.applications.batch.write").register(meterRegistry);
+    }
+
+    // Accepts an application for asynchronous writing and returns its ticket
+    // Throws CoverLetterTooLongException for a cover letter over MAX_COVER_LETTER_BYTES,
+    // DuplicateApplicationException when the applicant already applied for the job, and
+    // SubmissionQueueFullException when the queue stays full for 'enqueue-timeout-ms' or we are shutting down
+    public String submit(Long jobId, Long applicantId, String applicantUsername, String coverLetter) {
+        if (!accepting) {
+            throw new SubmissionQueueFullException("Application intake is not running");
+        }
+        if (isTooLong(coverLetter)) {
+            throw new CoverLetterTooLongException("Cover letter is longer than " + MAX_COVER_LETTER_BYTES + " bytes");
+        }
+        if (!duplicateGuard.reserve(jobId, applicantId)) {
+            throw new DuplicateApplicationException("Already applied for job " + jobId);
+        }
+        ApplicationSubmission submission = new ApplicationSubmission(UUID.randomUUID().toString(), jobId, applicantId,
+                applicantUsername, coverLetter, LocalDateTime.now());
+        statuses.put(submission.getTicket(), new TicketStatus(applicantId, SubmissionStatus.QUEUED));
+        boolean queued;
+        try {
+            queued = queue.offer(submission, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            statuses.remove(submission.getTicket());
+            duplicateGuard.release(jobId, applicantId); // Not submitted after all, the user may retry
+            queueFullCounter.increment();
+            throw new SubmissionQueueFullException("Too many applications are being submitted right now");
+        }
+        return submission.getTicket();
+    }
+
+    // Status of a ticket for the given applicant; null if unknown, expired or owned by someone else
+    public SubmissionStatus status(String ticket, Long applicantId) {
+        TicketStatus status = statuses.get(ticket);
+        if (status == null || !status.applicantId.equals(applicantId)) {
+            return null;
+        }
+        return status.status;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    // Number of tickets that can currently be looked up
+    public int trackedTickets() {
+        return statuses.size();
+    }
+
+    // A char encodes to one to three UTF-8 bytes, so only letters between a third of the limit and the limit are encoded
+    private static boolean isTooLong(String coverLetter) {
+        return coverLetter != null && coverLetter.length() > MAX_COVER_LETTER_BYTES / 3
+                && (coverLetter.length() > MAX_COVER_LETTER_BYTES
+                || coverLetter.getBytes(StandardCharsets.UTF_8).length > MAX_COVER_LETTER_BYTES);
+    }
+
+    // --- SmartLifecycle ---
+
+    @Override
+    public void start() {
+        accepting = true;
+        Thread thread = new Thread(this::writeLoop, "application-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false; // New submissions are refused from here on
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        try {
+            // The writer exits once 'accepting' is false and the queue is empty
+            thread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Application writer did not finish within {} ms; {} applications were not written",
+                    shutdownTimeoutMillis, queue.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    // Stop after the web server (which stops in a higher phase) so in-flight requests can still enqueue,
+    // and start before it so the queue is ready for the first request
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // --- Writer ---
+
+    private void writeLoop() {
+        List<ApplicationSubmission> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                sweepStatuses(); // Also under load, when the poll below never times out
+                ApplicationSubmission first = queue.poll(maxBatchWaitMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // Keep draining; the loop ends when intake has stopped and the queue is empty
+                Thread.interrupted();
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in the application writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("Application writer stopped, queue drained");
+    }
+
+    // Writes one batch in one transaction; if the database rejects the batch, retries row by row so only
+    // the offending rows are rejected
+    private void writeBatch(List<ApplicationSubmission> batch) {
+        long start = System.nanoTime();
+        try {
+            List<Application> saved = transactionTemplate.execute(tx -> insert(batch));
+            markAll(batch, SubmissionStatus.SAVED);
+            savedCounter.increment(batch.size());
+            publishSaved(batch, saved);
+        } catch (RuntimeException batchFailure) {
+            for (ApplicationSubmission submission : batch) {
+                writeSingle(submission);
+            }
+        }
+        batchSizes.record(batch.size());
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void writeSingle(ApplicationSubmission submission) {
+        try {
+            List<Application> saved = transactionTemplate.execute(tx -> insert(List.of(submission)));
+            mark(submission, SubmissionStatus.SAVED);
+            savedCounter.increment();
+            publishSaved(List.of(submission), saved);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicate(e)) {
+                duplicateGuard.duplicateRejectedByDatabase(submission.getJobId(), submission.getApplicantId());
+                mark(submission, SubmissionStatus.DUPLICATE);
+                duplicateCounter.increment();
+            } else {
+                duplicateGuard.release(submission.getJobId(), submission.getApplicantId());
+                mark(submission, SubmissionStatus.REJECTED);
+                rejectedCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not write application {} for job {}", submission.getTicket(), submission.getJobId(), e);
+            duplicateGuard.release(submission.getJobId(), submission.getApplicantId());
+            mark(submission, SubmissionStatus.FAILED);
+            failedCounter.increment();
+        }
+    }
+
+    // Listeners run on the writer thread, so they must only hand the event off; a failing listener must not
+    // turn a committed batch into a retry
+    private void publishSaved(List<ApplicationSubmission> submissions, List<Application> saved) {
+        try {
+            eventPublisher.publishEvent(ApplicationsSavedEvent.of(submissions, saved));
+        } catch (RuntimeException e) {
+            log.warn("Publishing saved applications failed", e);
+        }
+    }
+
+    // True if the insert broke the (job_id, applicant_id) unique constraint (and not, say, a foreign key)
+    // Databases decorate the name (H2 adds an index suffix, MySQL the table name), so match on containment
+    private static boolean isDuplicate(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Application.UNIQUE_JOB_APPLICANT);
+            }
+        }
+        return false;
+    }
+
+    // Persists the rows and flushes them as JDBC batches (multi-row INSERTs on MySQL with rewriteBatchedStatements=true)
+    // Job and applicant are references, only their ids are written; a missing row fails on the foreign key
+    // The job's application counters are updated in the same transaction
+    // Returns the saved entities in the order of 'rows'
+    private List<Application> insert(List<ApplicationSubmission> rows) {
+        List<Application> applications = new ArrayList<>(rows.size());
+        for (ApplicationSubmission submission : rows) {
+            Application application = new Application();
+            application.setJob(jobRepository.getReferenceById(submission.getJobId()));
+            application.setApplicant(userRepository.getReferenceById(submission.getApplicantId()));
+            application.setApplicationDate(submission.getApplicationDate());
+            application.setCoverLetter(submission.getCoverLetter());
+            applications.add(application);
+        }
+        applicationRepository.saveAll(applications);
+        applicationRepository.flush(); // Surface constraint violations here, translated to DataAccessExceptions
+        applicationCountService.record(applications);
+        return applications;
+    }
+
+    private void markAll(List<ApplicationSubmission> batch, SubmissionStatus status) {
+        for (ApplicationSubmission submission : batch) {
+            mark(submission, status);
+        }
+    }
+
+    private void mark(ApplicationSubmission submission, SubmissionStatus status) {
+        statuses.computeIfPresent(submission.getTicket(), (ticket, current) -> new TicketStatus(current.applicantId, status));
+    }
+
+    // Drops finished tickets older than the retention period every 30 seconds (runs on the writer thread)
+    // If more than 'max-tracked-tickets' are tracked sooner than that, the oldest finished tickets go early,
+    // down to three quarters of the limit so a burst does not sort the map on every batch
+    private void sweepStatuses() {
+        long now = System.nanoTime();
+        boolean overLimit = statuses.size() > maxTrackedTickets;
+        if (!overLimit && now - lastStatusSweep < STATUS_SWEEP_INTERVAL_NANOS) {
+            return;
+        }
+        lastStatusSweep = now;
+        statuses.values().removeIf(status -> status.status != SubmissionStatus.QUEUED
+                && now - status.updatedAt > STATUS_RETENTION_NANOS);
+        int excess = statuses.size() - maxTrackedTickets * 3 / 4;
+        if (excess <= 0) {
+            return;
+        }
+        // Queued tickets stay: there are at most a queue and a batch of them
+        statuses.entrySet().stream()
+                .filter(entry -> entry.getValue().status != SubmissionStatus.QUEUED)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().updatedAt))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(statuses::remove);
+    }
+
+    // Status of one ticket plus its owner (tickets are only visible to the applicant)
+    private static final class TicketStatus {
+        private final Long applicantId;
+        private final SubmissionStatus status;
+        private final long updatedAt = System.nanoTime();
+
+        private TicketStatus(Long applicantId, SubmissionStatus status) {
+            this.applicantId = applicantId;
+            this.status = status;
+        }
+    }
+}
\ No newline at end of file
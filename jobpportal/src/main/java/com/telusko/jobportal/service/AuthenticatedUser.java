@@ -0,0 +1,32 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.Role; // Import Role enum
+import org.springframework.security.core.authority.SimpleGrantedAuthority; // Import SimpleGrantedAuthority
+
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// The principal stored in the SecurityContext after login
+// Carries the user's database id and role next to the usual username/password/authorities, so
+// controllers can use the logged-in user without looking the row up again on every request
+// (inject it with @CurrentUser, see CurrentUserArgumentResolver)
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final Long id; // Primary key of the 'user' row
+    private final Role role; // User's role (ADMIN or USER)
+
+    public AuthenticatedUser(Long id, String username, String password, Role role) {
+        super(username, password, List.of(new SimpleGrantedAuthority(role.name())));
+        this.id = id;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+}
\ No newline at end of file
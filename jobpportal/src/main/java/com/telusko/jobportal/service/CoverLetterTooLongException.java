@@ -0,0 +1,10 @@
+package com.telusko.jobportal.service;
+
+// Thrown when a cover letter does not fit the application's cover_letter column
+// Callers should show the form again with the text so the user can shorten it
+public class CoverLetterTooLongException extends RuntimeException {
+
+    public CoverLetterTooLongException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
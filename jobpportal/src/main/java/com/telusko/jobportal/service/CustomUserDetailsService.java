@@ -6,21 +6,18 @@ import com.telusko.jobportal.repository.User; // Import User entity
 import com.telusko.jobportal.repository.UserRepository; // Import UserRepository
 // Remove jakarta.annotation.PostConstruct;
 // Remove org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.GrantedAuthority; // Import
-import org.springframework.security.core.authority.SimpleGrantedAuthority; // Import (for creating SimpleGrantedAuthority)
 import org.springframework.security.core.userdetails.UserDetails; // Import
+import org.springframework.security.core.userdetails.UserDetailsPasswordService; // Import (for rehash on login)
 import org.springframework.security.core.userdetails.UserDetailsService; // Import
 import org.springframework.security.core.userdetails.UsernameNotFoundException; // Import (for the exception)
 import org.springframework.security.crypto.password.PasswordEncoder; // Import PasswordEncoder
 import org.springframework.stereotype.Service; // Import (for @Service annotation)
 
-import java.util.ArrayList; // Import
-import java.util.List; // Import List
 import java.util.Optional; // Import Optional
 // --- END OF IMPORT STATEMENTS ---
 
 @Service // Mark this as a Spring service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     // No longer need @Value for default admin username/password here
@@ -57,19 +54,29 @@ public class CustomUserDetailsService implements UserDetailsService {
         // Get the User entity
         User user = userOptional.get();
 
-        // Create authorities (roles) for the user based on their role in the database
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        // Add the user's role as a GrantedAuthority string (e.g., "ROLE_ADMIN", "ROLE_USER")
-        authorities.add(new SimpleGrantedAuthority(user.getRole().name()));
-
-        // Return a Spring Security UserDetails object
+        // Return our UserDetails implementation; it becomes the principal in the SecurityContext, so it
+        // also carries the user id and role for controllers (see @CurrentUser)
+        // The authority is the user's role string (e.g., "ROLE_ADMIN", "ROLE_USER")
         // Spring Security will use the PasswordEncoder to compare the submitted password
         // with the encoded password returned here.
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+                user.getId(), // Primary key
                 user.getUsername(), // Username
                 user.getPassword(), // Encoded password from DB
-                authorities // User's roles/authorities
+                user.getRole() // User's role
         );
     }
+    // Called by DaoAuthenticationProvider after a successful login when PasswordEncoder.upgradeEncoding()
+    // says the stored hash uses an outdated BCrypt cost; 'newPassword' is the freshly encoded password
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthenticatedUser principal = (AuthenticatedUser) user;
+        userRepository.findById(principal.getId()).ifPresent(entity -> {
+            entity.setPassword(newPassword);
+            userRepository.save(entity);
+        });
+        return new AuthenticatedUser(principal.getId(), principal.getUsername(), newPassword, principal.getRole());
+    }
+
     // Methods related to web requests (@GetMapping, @PostMapping, getAuthenticatedUser) belong in Controllers, NOT here
 }
\ No newline at end of file
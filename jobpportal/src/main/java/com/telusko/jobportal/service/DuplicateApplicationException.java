@@ -0,0 +1,9 @@
+package com.telusko.jobportal.service;
+
+// Thrown when a user applies for a job they have already applied for
+public class DuplicateApplicationException extends RuntimeException {
+
+    public DuplicateApplicationException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
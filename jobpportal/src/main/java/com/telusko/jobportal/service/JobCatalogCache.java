@@ -0,0 +1,338 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.event.JobsSavedEvent; // Import the job saved event
+import com.telusko.jobportal.model.Job; // Import Job entity
+import com.telusko.jobportal.model.JobSummary; // Import the listing projection
+import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
+import io.micrometer.core.instrument.FunctionCounter; // Import FunctionCounter
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Import ApplicationReadyEvent
+import org.springframework.context.event.EventListener; // Import EventListener
+import org.springframework.data.domain.Limit; // Import Limit
+import org.springframework.stereotype.Component; // Import Component annotation
+
+import java.text.Normalizer; // Import Normalizer
+import java.util.ArrayList; // Import ArrayList
+import java.util.Comparator; // Import Comparator
+import java.util.HashMap; // Import HashMap
+import java.util.HashSet; // Import HashSet
+import java.util.List; // Import List
+import java.util.Locale; // Import Locale
+import java.util.Map; // Import Map
+import java.util.Optional; // Import Optional
+import java.util.Set; // Import Set
+import java.util.concurrent.atomic.LongAdder; // Import LongAdder
+// --- END OF IMPORT STATEMENTS ---
+
+// Read-through cache of the public job listing
+// Holds an immutable snapshot of the newest 'max-entries' listing rows (newest first). Readers grab the
+// current snapshot through a volatile field and never lock. Jobs only change when they are saved, so
+// instead of a TTL every JobsSavedEvent merges the new rows into a fresh snapshot (evicting the oldest
+// rows beyond the bound). Pages that fall outside the snapshot are reported as misses and JobService
+// reads them from the database.
+//
+// Invariant: the snapshot contains every job whose id is >= its oldest row ('complete' = whole catalog)
+// The rows are also grouped by location, so a location-filtered page is a binary search in that location's
+// rows instead of a scan over the whole snapshot. The database compares locations under MySQL's case- and
+// accent-insensitive collation ("pune" finds "Pune"), so groups are keyed by a folded location (see fold()).
+// The snapshot only answers a location whose group holds that exact spelling alone; any other spelling of
+// a known location is a miss and is left to the database, so the answer never depends on the cache state.
+//
+// The cache also keeps the catalog version used for conditional GETs of the job pages (see UserController).
+// It changes after every save or rebuild has been applied, so a page rendered from the new state never
+// goes out with an older version than the content it shows.
+@Component // Spring manages this as a bean
+public class JobCatalogCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCatalogCache.class);
+
+    private final JobRepository jobRepository;
+    private final int maxEntries; // Upper bound on cached listing rows
+
+    private volatile Snapshot snapshot; // null until the first rebuild has finished
+
+    // Catalog version: run id (so versions of different runs or nodes never collide) + change counter
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private volatile long changeCount;
+    private volatile long lastModified = nextLastModified(0); // Whole seconds, strictly increasing per change
+
+    // Metrics (LongAdder keeps the read path contention-free)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder patches = new LongAdder();
+
+    // Constructor injection
+    public JobCatalogCache(JobRepository jobRepository, MeterRegistry meterRegistry,
+                           @Value("${portal.catalog-cache.max-entries:10000}") int maxEntries) {
+        this.jobRepository = jobRepository;
+        this.maxEntries = maxEntries;
+
+        FunctionCounter.builder("portal.catalog.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").description("Listing page reads answered from the catalog snapshot")
+                .register(meterRegistry);
+        FunctionCounter.builder("portal.catalog.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").description("Listing page reads that had to go to the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("portal.catalog.cache.rebuilds", rebuilds, LongAdder::sum)
+                .description("Full snapshot reloads from the database").register(meterRegistry);
+        FunctionCounter.builder("portal.catalog.cache.patches", patches, LongAdder::sum)
+                .description("Snapshot updates applied from saved jobs").register(meterRegistry);
+        Gauge.builder("portal.catalog.cache.size", this, cache -> cache.currentSnapshot().rows.length)
+                .description("Listing rows held in the snapshot").register(meterRegistry);
+    }
+
+    // Loads the snapshot once the application is up
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // Re-reads the newest rows from the database and swaps in a new snapshot
+    // Runs under the writer lock, so saves that happen during the reload are applied on top of it
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        // Read one row more than the bound to find out whether the whole catalog fits
+        List<JobSummary> rows = jobRepository.findSummariesBefore(Long.MAX_VALUE, Limit.of(maxEntries + 1));
+        boolean complete = rows.size() <= maxEntries;
+        List<JobSummary> kept = complete ? rows : rows.subList(0, maxEntries);
+        snapshot = new Snapshot(kept.toArray(new JobSummary[0]), complete);
+        catalogChanged();
+        rebuilds.increment();
+        log.info("Job catalog snapshot rebuilt: {} rows (complete={}) in {} ms",
+                kept.size(), complete, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Merges freshly saved jobs into a new snapshot instead of expiring the cache
+    @EventListener
+    public synchronized void onJobsSaved(JobsSavedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            catalogChanged(); // Pages are read from the database until the snapshot is loaded
+            return; // Not loaded yet, the pending rebuild will read these jobs from the database
+        }
+        List<JobSummary> added = new ArrayList<>(event.getJobs().size());
+        for (Job job : event.getJobs()) {
+            added.add(new JobSummary(job.getId(), job.getTitle(), job.getLocation()));
+        }
+        snapshot = current.merge(added, maxEntries);
+        catalogChanged();
+        patches.increment();
+    }
+
+    // Changes whenever a job is saved through JobService (or the snapshot is reloaded)
+    // Read it before rendering a page, so the page is never tagged newer than what it shows
+    public String catalogVersion() {
+        return runId + "." + changeCount;
+    }
+
+    // Moves the catalog version on for page content that changed without a job being saved
+    // (e.g. the facet counts once JobFilterService has finished loading its index)
+    public synchronized void contentChanged() {
+        catalogChanged();
+    }
+
+    // Time of the last catalog change, for Last-Modified / If-Modified-Since
+    public long lastModified() {
+        return lastModified;
+    }
+
+    // Up to 'limit' rows older than 'beforeId', newest first (same contract as JobRepository.findSummariesBefore)
+    // Empty when the snapshot cannot prove the answer is complete
+    public Optional<List<JobSummary>> rowsBefore(long beforeId, String location, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        JobSummary[] rows = current.rows(location);
+        if (rows == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        List<JobSummary> result = new ArrayList<>(limit);
+        for (int i = Snapshot.firstIndexBelow(rows, beforeId); i < rows.length && result.size() < limit; i++) {
+            result.add(rows[i]);
+        }
+        // Ran off the end of a partial snapshot: older rows may exist only in the database
+        if (result.size() < limit && !current.complete) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(result);
+    }
+
+    // Up to 'limit' rows newer than 'afterId', oldest first (same contract as JobRepository.findSummariesAfter)
+    // Empty when the cursor lies below the snapshot window
+    public Optional<List<JobSummary>> rowsAfter(long afterId, String location, int limit) {
+        Snapshot current = snapshot;
+        if (current == null || (!current.complete && (current.rows.length == 0 || afterId < current.oldestId()))) {
+            misses.increment();
+            return Optional.empty();
+        }
+        JobSummary[] rows = current.rows(location);
+        if (rows == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        List<JobSummary> result = new ArrayList<>(limit);
+        for (int i = Snapshot.firstIndexBelow(rows, afterId + 1) - 1; i >= 0 && result.size() < limit; i--) {
+            result.add(rows[i]);
+        }
+        hits.increment();
+        return Optional.of(result);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long rebuildCount() {
+        return rebuilds.sum();
+    }
+
+    // Called with the writer lock held, after the new state is visible
+    private void catalogChanged() {
+        lastModified = nextLastModified(lastModified);
+        changeCount++;
+    }
+
+    // HTTP dates have one-second resolution: rounding up and never reusing a second keeps a change made in
+    // the same second as the previous one from being answered with 304 Not Modified
+    private static long nextLastModified(long previous) {
+        long nextSecond = (System.currentTimeMillis() / 1000 + 1) * 1000;
+        return Math.max(nextSecond, previous + 1000);
+    }
+
+    // Location as the database collation sees it, or coarser: accents and case removed, trailing spaces
+    // ignored. Coarser only costs misses, because a group with more than one spelling is never answered.
+    static String fold(String location) {
+        String withoutAccents = Normalizer.normalize(location, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return withoutAccents.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : Snapshot.EMPTY;
+    }
+
+    // Immutable view of the newest listing rows, ordered by id descending
+    private static final class Snapshot {
+
+        private static final JobSummary[] NO_ROWS = new JobSummary[0];
+        private static final Snapshot EMPTY = new Snapshot(NO_ROWS, false);
+        private static final Comparator<JobSummary> NEWEST_FIRST =
+                Comparator.comparing(JobSummary::getId, Comparator.reverseOrder());
+
+        private final JobSummary[] rows; // Newest first
+        private final Map<String, LocationRows> rowsByLocation; // Same rows per folded location, newest first
+        private final boolean complete; // True when every job in the catalog is in 'rows'
+
+        private Snapshot(JobSummary[] rows, boolean complete) {
+            this.rows = rows;
+            this.rowsByLocation = groupByLocation(rows);
+            this.complete = complete;
+        }
+
+        // All rows, or the rows of one location (null = no filter)
+        // null when the location is spelled differently from (some of) the rows the database would match
+        private JobSummary[] rows(String location) {
+            if (location == null) {
+                return rows;
+            }
+            LocationRows group = rowsByLocation.get(fold(location));
+            if (group == null) {
+                return NO_ROWS;
+            }
+            return location.equals(group.spelling) ? group.rows : null;
+        }
+
+        private long oldestId() {
+            return rows[rows.length - 1].getId();
+        }
+
+        // Index of the first row whose id is lower than 'id' (binary search over the descending ids)
+        private static int firstIndexBelow(JobSummary[] rows, long id) {
+            int low = 0;
+            int high = rows.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (rows[mid].getId() >= id) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Rows without a location only appear in the unfiltered listing
+        private static Map<String, LocationRows> groupByLocation(JobSummary[] rows) {
+            Map<String, String> folded = new HashMap<>(); // Each distinct spelling is folded once
+            Map<String, List<JobSummary>> groups = new HashMap<>();
+            Map<String, String> spellings = new HashMap<>(); // First spelling seen per folded location
+            Set<String> mixed = new HashSet<>(); // Folded locations spelled in more than one way
+            for (JobSummary row : rows) {
+                String location = row.getLocation();
+                if (location == null) {
+                    continue;
+                }
+                String key = folded.computeIfAbsent(location, JobCatalogCache::fold);
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+                String first = spellings.putIfAbsent(key, location);
+                if (first != null && !first.equals(location)) {
+                    mixed.add(key);
+                }
+            }
+            Map<String, LocationRows> grouped = new HashMap<>(groups.size() * 2);
+            groups.forEach((key, group) -> grouped.put(key,
+                    new LocationRows(mixed.contains(key) ? null : spellings.get(key), group.toArray(NO_ROWS))));
+            return grouped;
+        }
+
+        // Returns a new snapshot with 'added' merged in (added rows replace rows with the same id)
+        private Snapshot merge(List<JobSummary> added, int maxEntries) {
+            added.sort(NEWEST_FIRST);
+            List<JobSummary> merged = new ArrayList<>(Math.min(rows.length + added.size(), maxEntries + 1));
+            int i = 0;
+            int j = 0;
+            while ((i < rows.length || j < added.size()) && merged.size() <= maxEntries) {
+                JobSummary next;
+                if (j == added.size() || (i < rows.length && rows[i].getId() > added.get(j).getId())) {
+                    next = rows[i++];
+                } else {
+                    next = added.get(j++);
+                    if (i < rows.length && rows[i].getId().equals(next.getId())) {
+                        i++; // Replaced by the saved version
+                    }
+                }
+                // Rows older than a partial window would break the contiguity invariant, leave them to the database
+                if (!complete && rows.length > 0 && next.getId() < oldestId()) {
+                    break;
+                }
+                if (merged.isEmpty() || !merged.get(merged.size() - 1).getId().equals(next.getId())) {
+                    merged.add(next);
+                }
+            }
+            boolean stillComplete = complete && merged.size() <= maxEntries && i == rows.length && j == added.size();
+            if (merged.size() > maxEntries) {
+                merged = merged.subList(0, maxEntries); // Evict the oldest rows
+            }
+            return new Snapshot(merged.toArray(new JobSummary[0]), stillComplete);
+        }
+    }
+
+    // Rows of one folded location and their spelling (null when the rows spell it in more than one way)
+    private record LocationRows(String spelling, JobSummary[] rows) {
+    }
+}
\ No newline at end of file
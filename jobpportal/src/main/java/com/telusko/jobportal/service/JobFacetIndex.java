@@ -0,0 +1,199 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import org.roaringbitmap.FastAggregation; // Import FastAggregation (multi-way AND/OR)
+import org.roaringbitmap.RoaringBitmap; // Import RoaringBitmap (compressed bitset)
+
+import java.time.LocalDate; // Import LocalDate
+import java.util.ArrayList; // Import ArrayList
+import java.util.HashMap; // Import HashMap
+import java.util.List; // Import List
+import java.util.Map; // Import Map
+import java.util.NavigableMap; // Import NavigableMap
+import java.util.TreeMap; // Import TreeMap
+import java.util.concurrent.locks.ReentrantReadWriteLock; // Import ReentrantReadWriteLock
+// --- END OF IMPORT STATEMENTS ---
+
+// In-memory posting lists of job ids per location, per posting admin and per posting day
+// Plain class (not a Spring bean): JobFilterService owns one instance, fills it at startup and adds jobs
+// to it as they are saved.
+//
+// Every posting list is a RoaringBitmap over the job ids: dense runs of ids (a busy location, a bulk
+// import) are stored as bitmap or run containers, sparse ones as short sorted arrays, so a list costs a
+// few bits to a few bytes per job. A multi-filter query is the AND of at most three lists (the posting
+// days of an age range are ORed first), which Roaring computes container by container without
+// decompressing, and the facet counts are AND-cardinalities that never materialize the intersection.
+//
+// Job ids come from a sequence and are stored as ints; they stay far below 2^31 for this portal.
+public class JobFacetIndex {
+
+    // Many concurrent listings, occasional writes
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap all = new RoaringBitmap(); // Every indexed job
+    private final Map<String, RoaringBitmap> byLocation = new HashMap<>(); // location -> jobs
+    private final Map<Long, RoaringBitmap> byPoster = new HashMap<>(); // admin id -> jobs
+    private final NavigableMap<LocalDate, RoaringBitmap> byPostingDay = new TreeMap<>(); // day -> jobs posted that day
+    private final Map<Integer, Entry> entries = new HashMap<>(); // job id -> its indexed values, to move a re-saved job
+
+    // Adds a job, or moves it to its new lists if it was indexed before
+    // location and postingDay may be null (the job then appears in no list for that filter)
+    public void add(long jobId, String location, Long posterId, LocalDate postingDay) {
+        int id = Math.toIntExact(jobId);
+        Entry entry = new Entry(location, posterId, postingDay);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(id, entry);
+            if (previous != null) {
+                removeFrom(byLocation, previous.location(), id);
+                removeFrom(byPoster, previous.posterId(), id);
+                removeFrom(byPostingDay, previous.postingDay(), id);
+            }
+            all.add(id);
+            addTo(byLocation, location, id);
+            addTo(byPoster, posterId, id);
+            addTo(byPostingDay, postingDay, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Up to 'limit' matching job ids below 'beforeId', highest first
+    public List<Long> idsBefore(Criteria criteria, long beforeId, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = matching(criteria);
+            List<Long> ids = new ArrayList<>(limit);
+            long next = beforeId <= 0 ? -1 : matches.previousValue((int) Math.min(beforeId - 1, Integer.MAX_VALUE));
+            while (next >= 0 && ids.size() < limit) {
+                ids.add(next);
+                next = next == 0 ? -1 : matches.previousValue((int) next - 1);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Up to 'limit' matching job ids above 'afterId', lowest first
+    public List<Long> idsAfter(Criteria criteria, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = matching(criteria);
+            List<Long> ids = new ArrayList<>(limit);
+            long next = afterId >= Integer.MAX_VALUE ? -1 : matches.nextValue((int) Math.max(afterId + 1, 0));
+            while (next >= 0 && ids.size() < limit) {
+                ids.add(next);
+                next = next == Integer.MAX_VALUE ? -1 : matches.nextValue((int) next + 1);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of jobs matching all criteria
+    public int count(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            return matching(criteria).getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Matching jobs per location, ignoring the criteria's own location (locations without matches are left out)
+    public Map<String, Integer> countByLocation(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            return countEach(byLocation, matching(criteria.withLocation(null)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Matching jobs per posting admin id, ignoring the criteria's own poster (admins without matches are left out)
+    public Map<Long, Integer> countByPoster(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            return countEach(byPoster, matching(criteria.withPosterId(null)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Intersection of the posting lists selected by the criteria ('all' when nothing is filtered)
+    // Called with the read lock held. May return one of the index's own lists, callers must not modify it
+    private RoaringBitmap matching(Criteria criteria) {
+        List<RoaringBitmap> lists = new ArrayList<>(3);
+        if (criteria.location() != null) {
+            lists.add(byLocation.getOrDefault(criteria.location(), new RoaringBitmap()));
+        }
+        if (criteria.posterId() != null) {
+            lists.add(byPoster.getOrDefault(criteria.posterId(), new RoaringBitmap()));
+        }
+        if (criteria.postedSince() != null) {
+            lists.add(FastAggregation.or(byPostingDay.tailMap(criteria.postedSince(), true).values().iterator()));
+        }
+        if (lists.isEmpty()) {
+            return all;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        return FastAggregation.and(lists.iterator());
+    }
+
+    // Size of each list's intersection with 'base'
+    private static <K> Map<K, Integer> countEach(Map<K, RoaringBitmap> lists, RoaringBitmap base) {
+        Map<K, Integer> counts = new HashMap<>();
+        for (Map.Entry<K, RoaringBitmap> list : lists.entrySet()) {
+            int count = RoaringBitmap.andCardinality(list.getValue(), base);
+            if (count > 0) {
+                counts.put(list.getKey(), count);
+            }
+        }
+        return counts;
+    }
+
+    private static <K> void addTo(Map<K, RoaringBitmap> lists, K key, int id) {
+        if (key != null) {
+            lists.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> lists, K key, int id) {
+        RoaringBitmap list = key == null ? null : lists.get(key);
+        if (list != null) {
+            list.remove(id);
+            if (list.isEmpty()) {
+                lists.remove(key);
+            }
+        }
+    }
+
+    // Values a job was indexed under
+    private record Entry(String location, Long posterId, LocalDate postingDay) {
+    }
+
+    // Filter values to match (null = any): exact location, posting admin id, first posting day
+    public record Criteria(String location, Long posterId, LocalDate postedSince) {
+
+        Criteria withLocation(String location) {
+            return new Criteria(location, posterId, postedSince);
+        }
+
+        Criteria withPosterId(Long posterId) {
+            return new Criteria(location, posterId, postedSince);
+        }
+    }
+}
\ No newline at end of file
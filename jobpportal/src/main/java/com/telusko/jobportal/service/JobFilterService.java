@@ -0,0 +1,222 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.config.ReadReplicaDataSource; // Import ReadReplicaDataSource (primary lookups)
+import com.telusko.jobportal.event.JobsSavedEvent; // Import the job saved event
+import com.telusko.jobportal.model.FacetCount; // Import FacetCount
+import com.telusko.jobportal.model.Job; // Import Job entity
+import com.telusko.jobportal.model.JobFacetRow; // Import the facet index row
+import com.telusko.jobportal.model.JobFacets; // Import JobFacets
+import com.telusko.jobportal.model.JobFilter; // Import JobFilter
+import com.telusko.jobportal.model.JobPage; // Import the page model
+import com.telusko.jobportal.model.JobSummary; // Import the listing projection
+import com.telusko.jobportal.model.PostingAge; // Import PostingAge
+import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
+import com.telusko.jobportal.repository.User; // Import User entity
+import com.telusko.jobportal.repository.UserRepository; // Import UserRepository
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.ObjectProvider; // Import ObjectProvider
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Import ApplicationReadyEvent
+import org.springframework.context.event.EventListener; // Import EventListener
+import org.springframework.data.domain.Limit; // Import Limit
+import org.springframework.stereotype.Service; // Import Service annotation
+
+import java.time.Clock; // Import Clock
+import java.time.Instant; // Import Instant
+import java.time.LocalDate; // Import LocalDate
+import java.time.LocalDateTime; // Import LocalDateTime
+import java.util.ArrayList; // Import ArrayList
+import java.util.Collections; // Import Collections
+import java.util.List; // Import List
+import java.util.Map; // Import Map
+import java.util.concurrent.ConcurrentHashMap; // Import ConcurrentHashMap
+// --- END OF IMPORT STATEMENTS ---
+
+// Job listing filtered by location, posting admin and posting age, with facet counts
+// Backed by an in-memory JobFacetIndex that is loaded from the job table once after startup and then kept
+// current from JobsSavedEvent. Only the page's rows are read from the database (by primary key).
+// Listings filtered by location alone keep using JobService (catalog snapshot and keyset queries).
+// Posting ages are counted back from today() on the Clock bean (the system clock when there is none), so
+// listings and counts change at midnight even when no job does.
+// Pages rendered while the index loads are incomplete: finishing the load moves the catalog version on
+// (JobCatalogCache.contentChanged), so conditional GETs revalidate against the complete index.
+@Service // Mark this as a Spring service
+public class JobFilterService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobFilterService.class);
+
+    // Rows read per query while loading the index at startup
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // Values shown per facet (busiest first)
+    public static final int MAX_FACET_VALUES = 10;
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final JobCatalogCache jobCatalogCache; // Version of the rendered job pages
+    private final Clock clock; // Decides what "today" is for the posting-age filter
+    private final JobFacetIndex index = new JobFacetIndex();
+    private final Map<Long, String> posterNames = new ConcurrentHashMap<>(); // admin id -> username, for the facet labels
+
+    private volatile boolean ready; // true once the startup load has finished
+
+    // Constructor injection
+    public JobFilterService(JobRepository jobRepository, UserRepository userRepository, JobCatalogCache jobCatalogCache,
+                            ObjectProvider<Clock> clock) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.jobCatalogCache = jobCatalogCache;
+        this.clock = clock.getIfAvailable(Clock::systemDefaultZone);
+    }
+
+    // Loads every job into the index on a background thread so startup is not held up
+    // Listings during the load see the jobs indexed so far
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        Thread loader = new Thread(this::loadAllJobs, "job-facet-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // Adds newly saved jobs to the index (the index moves a job that was indexed before)
+    // Only the poster's id is read: postedBy may be an uninitialized reference
+    @EventListener
+    public void onJobsSaved(JobsSavedEvent event) {
+        for (Job job : event.getJobs()) {
+            index.add(job.getId(), job.getLocation(), job.getPostedBy().getId(), postingDay(job.getPostedAt()));
+        }
+    }
+
+    // Loads one page of the filtered listing, newest first, with the same cursors as JobService.listJobs
+    public JobPage listJobs(JobFilter filter, Long before, Long after) {
+        JobFacetIndex.Criteria criteria = criteria(filter);
+        if (after != null) {
+            List<Long> ids = index.idsAfter(criteria, after, JobService.PAGE_SIZE + 1); // Oldest first
+            if (ids.isEmpty()) {
+                return listJobs(filter, null, null); // Nothing newer than the cursor, fall back to the first page
+            }
+            boolean hasNewer = ids.size() > JobService.PAGE_SIZE;
+            List<Long> pageIds = new ArrayList<>(ids.subList(0, Math.min(ids.size(), JobService.PAGE_SIZE)));
+            Collections.reverse(pageIds);
+            List<JobSummary> page = summaries(pageIds);
+            return new JobPage(page, pageIds.get(pageIds.size() - 1), hasNewer ? pageIds.get(0) : null);
+        }
+
+        List<Long> ids = index.idsBefore(criteria, before != null ? before : Long.MAX_VALUE, JobService.PAGE_SIZE + 1);
+        boolean hasOlder = ids.size() > JobService.PAGE_SIZE;
+        List<Long> pageIds = hasOlder ? ids.subList(0, JobService.PAGE_SIZE) : ids;
+        Long nextCursor = hasOlder ? pageIds.get(pageIds.size() - 1) : null;
+        Long prevCursor = (before != null && !pageIds.isEmpty()) ? pageIds.get(0) : null;
+        return new JobPage(summaries(pageIds), nextCursor, prevCursor);
+    }
+
+    // Facet counts for the listing under 'filter' (each facet ignores its own filter, see JobFacets)
+    public JobFacets facets(JobFilter filter) {
+        JobFacetIndex.Criteria criteria = criteria(filter);
+
+        List<FacetCount> locations = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : busiest(index.countByLocation(criteria), filter.getLocation())) {
+            boolean selected = entry.getKey().equals(filter.getLocation());
+            locations.add(new FacetCount(entry.getKey(), entry.getValue(), selected,
+                    filter.withLocation(selected ? null : entry.getKey())));
+        }
+
+        List<FacetCount> posters = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : busiest(index.countByPoster(criteria), filter.getPostedById())) {
+            boolean selected = entry.getKey().equals(filter.getPostedById());
+            posters.add(new FacetCount(posterName(entry.getKey()), entry.getValue(), selected,
+                    filter.withPostedById(selected ? null : entry.getKey())));
+        }
+
+        List<FacetCount> postingAges = new ArrayList<>();
+        LocalDate today = today();
+        for (PostingAge age : PostingAge.values()) {
+            int count = index.count(new JobFacetIndex.Criteria(criteria.location(), criteria.posterId(), age.since(today)));
+            boolean selected = age == filter.getPostedWithin();
+            postingAges.add(new FacetCount(age.getLabel(), count, selected, filter.withPostedWithin(selected ? null : age)));
+        }
+        return new JobFacets(locations, posters, postingAges);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int indexedJobCount() {
+        return index.size();
+    }
+
+    // The day posting ages are counted from
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    // Midnight at the start of today(); listings and facet counts rendered before it are out of date
+    public Instant startOfToday() {
+        return today().atStartOfDay(clock.getZone()).toInstant();
+    }
+
+    private JobFacetIndex.Criteria criteria(JobFilter filter) {
+        LocalDate postedSince = filter.getPostedWithin() == null ? null : filter.getPostedWithin().since(today());
+        return new JobFacetIndex.Criteria(filter.getLocation(), filter.getPostedById(), postedSince);
+    }
+
+    // The MAX_FACET_VALUES values with the most jobs (ties by value), keeping the selected value in the list
+    private static <K extends Comparable<K>> List<Map.Entry<K, Integer>> busiest(Map<K, Integer> counts, K selected) {
+        List<Map.Entry<K, Integer>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<K, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<Map.Entry<K, Integer>> top = new ArrayList<>(entries.subList(0, Math.min(entries.size(), MAX_FACET_VALUES)));
+        if (selected != null && top.stream().noneMatch(entry -> entry.getKey().equals(selected))) {
+            entries.stream().filter(entry -> entry.getKey().equals(selected)).findFirst().ifPresent(top::add);
+        }
+        return top;
+    }
+
+    // Listing rows of the page, newest first (one primary key lookup for the whole page)
+    private List<JobSummary> summaries(List<Long> ids) {
+        return ids.isEmpty() ? List.of() : jobRepository.findSummariesByIdIn(ids);
+    }
+
+    // Username of a posting admin; admins who first posted after the startup load are looked up once
+    // The query runs outside the map, so it never holds up other threads on the map's locks. The admin has
+    // a job in the index, so a miss means a replica has not caught up yet: the primary is asked before the
+    // fallback label is kept.
+    private String posterName(Long posterId) {
+        String name = posterNames.get(posterId);
+        if (name != null) {
+            return name;
+        }
+        name = userRepository.findById(posterId)
+                .or(() -> ReadReplicaDataSource.onPrimary(() -> userRepository.findById(posterId)))
+                .map(User::getUsername).orElse("#" + posterId);
+        String concurrent = posterNames.putIfAbsent(posterId, name);
+        return concurrent != null ? concurrent : name;
+    }
+
+    private static LocalDate postingDay(LocalDateTime postedAt) {
+        return postedAt == null ? null : postedAt.toLocalDate();
+    }
+
+    // Walks the job table in id order with keyset batches, reading only the filterable columns
+    private void loadAllJobs() {
+        long start = System.nanoTime();
+        try {
+            long lastId = 0;
+            List<JobFacetRow> batch;
+            do {
+                batch = jobRepository.findFacetRowsAfter(lastId, Limit.of(LOAD_BATCH_SIZE));
+                for (JobFacetRow row : batch) {
+                    index.add(row.getId(), row.getLocation(), row.getPostedById(), postingDay(row.getPostedAt()));
+                    posterNames.putIfAbsent(row.getPostedById(), row.getPostedByUsername());
+                    lastId = row.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            ready = true;
+            jobCatalogCache.contentChanged(); // Pages rendered during the load had incomplete counts
+            log.info("Job facet index loaded: {} jobs in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Loading the job facet index failed; filtered listings will be incomplete", e);
+        }
+    }
+}
\ No newline at end of file
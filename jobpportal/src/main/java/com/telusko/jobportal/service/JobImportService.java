@@ -0,0 +1,396 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.fasterxml.jackson.core.JsonProcessingException; // Import JsonProcessingException
+import com.fasterxml.jackson.databind.JsonNode; // Import JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper; // Import ObjectMapper
+import com.telusko.jobportal.model.Job; // Import Job entity
+import com.telusko.jobportal.model.JobImportReport; // Import the import report
+import com.telusko.jobportal.repository.User; // Import User entity
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.beans.factory.annotation.Value; // Import Value annotation
+import org.springframework.dao.DataAccessException; // Import DataAccessException
+import org.springframework.stereotype.Service; // Import Service annotation
+
+import java.io.BufferedReader; // Import BufferedReader
+import java.io.IOException; // Import IOException
+import java.io.InputStream; // Import InputStream
+import java.io.InputStreamReader; // Import InputStreamReader
+import java.io.Reader; // Import Reader
+import java.nio.charset.StandardCharsets; // Import StandardCharsets
+import java.util.ArrayList; // Import ArrayList
+import java.util.List; // Import List
+import java.util.Locale; // Import Locale
+// --- END OF IMPORT STATEMENTS ---
+
+// Bulk import of jobs from an uploaded CSV or NDJSON (one JSON object per line) file
+// The upload is parsed as a stream, one row at a time. Valid rows are collected into batches of
+// 'batch-size' jobs, and each batch is saved in its own transaction through JobService.postJobs. So
+// memory use is bounded by one batch whatever the file size, and every batch is visible in the job
+// listing and search as soon as it commits. Invalid rows are skipped and reported with their line number.
+//
+// CSV: the first record is a header naming the columns (title, description, location, any order,
+// other columns ignored); fields follow RFC 4180 (quotes, doubled quotes, line breaks inside quotes).
+// A record longer than 'max-record-length' characters, or with a field longer than 'max-field-length', is
+// rejected without its text being kept, so one runaway record (e.g. after a stray quote) cannot fill the heap.
+// NDJSON: {"title": "...", "description": "...", "location": "..."} per line.
+@Service // Mark this as a Spring service
+public class JobImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportService.class);
+
+    // Column limits (title and location are VARCHAR(255), description is a MySQL BLOB column,
+    // which holds the plain UTF-8 text whenever compressing it does not help)
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_LOCATION_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_BYTES = 65_535;
+
+    private final JobService jobService;
+    private final ObjectMapper objectMapper; // Parses NDJSON lines
+    private final int batchSize; // Jobs per insert transaction
+    private final int maxReportedErrors; // Rejected rows listed in the report
+    private final int maxFieldLength; // Characters kept per CSV field
+    private final int maxRecordLength; // Characters kept per CSV record, separators and quotes included
+
+    // Constructor injection
+    public JobImportService(JobService jobService, ObjectMapper objectMapper,
+                            @Value("${portal.job-import.batch-size:500}") int batchSize,
+                            @Value("${portal.job-import.max-reported-errors:1000}") int maxReportedErrors,
+                            @Value("${portal.job-import.max-field-length:65535}") int maxFieldLength,
+                            @Value("${portal.job-import.max-record-length:262144}") int maxRecordLength) {
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // True when the upload should be read as NDJSON: an explicit 'format' wins, otherwise the file extension decides
+    public static boolean isNdjson(String format, String fileName) {
+        if (format != null && !format.isBlank()) {
+            return format.equalsIgnoreCase("ndjson") || format.equalsIgnoreCase("json");
+        }
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json");
+    }
+
+    // Imports every valid row of 'in' as a job posted by 'postedBy'; does not close 'in'
+    // Batches saved before a failure stay imported, the report says where the import stopped
+    public JobImportReport importJobs(InputStream in, boolean ndjson, User postedBy) throws IOException {
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun(postedBy);
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        try {
+            if (ndjson) {
+                readNdjson(new BufferedReader(reader), run);
+            } else {
+                readCsv(new CsvRecordReader(reader, maxFieldLength, maxRecordLength), run);
+            }
+            run.flush();
+        } catch (MalformedUploadException e) {
+            run.flush(); // Rows read before the broken part are still good
+            run.failure = "Line " + e.line + ": " + e.getMessage() + ". The rest of the file was not imported.";
+        } catch (DataAccessException e) {
+            log.warn("Job import stopped after {} jobs: batch insert failed", run.imported, e);
+            run.failure = "Saving a batch of jobs failed after " + run.imported + " jobs were imported. The rest of the file was not imported.";
+        }
+        log.info("Imported {} jobs ({} rows rejected) in {} ms", run.imported, run.rejected,
+                (System.nanoTime() - start) / 1_000_000);
+        return new JobImportReport(run.imported, run.rejected, List.copyOf(run.errors),
+                run.rejected > run.errors.size(), run.failure);
+    }
+
+    private void readCsv(CsvRecordReader csv, ImportRun run) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            return; // Empty file
+        }
+        if (csv.recordError != null) {
+            throw new MalformedUploadException(1, "the header row: " + csv.recordError);
+        }
+        // Excel and friends put a byte order mark in front of the first column name
+        if (!header.get(0).isEmpty() && header.get(0).charAt(0) == '\uFEFF') {
+            header.set(0, header.get(0).substring(1));
+        }
+        int titleColumn = -1;
+        int descriptionColumn = -1;
+        int locationColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "location" -> locationColumn = i;
+                default -> { } // Extra columns (e.g. from an export) are ignored
+            }
+        }
+        if (titleColumn < 0) {
+            throw new MalformedUploadException(1, "the header row has no 'title' column");
+        }
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (csv.recordError != null) {
+                run.reject(csv.recordLine, csv.recordError);
+                continue;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // Blank line
+            }
+            if (fields.size() != header.size()) {
+                run.reject(csv.recordLine, "expected " + header.size() + " columns, found " + fields.size());
+                continue;
+            }
+            run.accept(csv.recordLine, fields.get(titleColumn),
+                    descriptionColumn < 0 ? null : fields.get(descriptionColumn),
+                    locationColumn < 0 ? null : fields.get(locationColumn));
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "not valid JSON");
+                continue;
+            }
+            if (!node.isObject()) {
+                run.reject(lineNumber, "expected a JSON object");
+                continue;
+            }
+            JsonNode title = node.get("title");
+            JsonNode description = node.get("description");
+            JsonNode location = node.get("location");
+            if (!isTextOrAbsent(title) || !isTextOrAbsent(description) || !isTextOrAbsent(location)) {
+                run.reject(lineNumber, "title, description and location must be strings");
+                continue;
+            }
+            run.accept(lineNumber, textOrNull(title), textOrNull(description), textOrNull(location));
+        }
+    }
+
+    private static boolean isTextOrAbsent(JsonNode node) {
+        return node == null || node.isNull() || node.isTextual();
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.textValue();
+    }
+
+    // Returns what is wrong with a row, or null when it can be imported
+    static String validate(String title, String description, String location) {
+        if (title == null || title.isBlank()) {
+            return "title is required";
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            return "title is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (location != null && location.length() > MAX_LOCATION_LENGTH) {
+            return "location is longer than " + MAX_LOCATION_LENGTH + " characters";
+        }
+        // Only long descriptions can exceed the byte limit (a UTF-8 char is at most 3 bytes per UTF-16 unit)
+        if (description != null && description.length() * 3 > MAX_DESCRIPTION_BYTES
+                && description.getBytes(StandardCharsets.UTF_8).length > MAX_DESCRIPTION_BYTES) {
+            return "description is longer than " + MAX_DESCRIPTION_BYTES + " bytes";
+        }
+        return null;
+    }
+
+    // State of one import: the pending batch, counters and the (bounded) error list
+    private final class ImportRun {
+
+        private final User postedBy;
+        private final List<Job> batch = new ArrayList<>(batchSize);
+        private final List<JobImportReport.RowError> errors = new ArrayList<>();
+        private int imported;
+        private int rejected;
+        private String failure;
+
+        private ImportRun(User postedBy) {
+            this.postedBy = postedBy;
+        }
+
+        private void accept(int line, String title, String description, String location) {
+            String error = validate(title, description, location);
+            if (error != null) {
+                reject(line, error);
+                return;
+            }
+            Job job = new Job();
+            job.setTitle(title.trim());
+            job.setDescription(description == null || description.isBlank() ? null : description);
+            job.setLocation(location == null || location.isBlank() ? null : location.trim());
+            job.setPostedBy(postedBy);
+            batch.add(job);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(int line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new JobImportReport.RowError(line, message));
+            }
+        }
+
+        // Saves the pending batch in one transaction (it shows up in the listing once this returns)
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            jobService.postJobs(batch);
+            imported += batch.size();
+            batch.clear();
+        }
+    }
+
+    // Thrown when the upload cannot be read past a point (e.g. a quote that is never closed)
+    private static final class MalformedUploadException extends RuntimeException {
+
+        private final int line;
+
+        private MalformedUploadException(int line, String message) {
+            super(message);
+            this.line = line;
+        }
+    }
+
+    // Minimal streaming RFC 4180 reader: returns one record at a time and tracks line numbers
+    // A record over the field or record length limit is still read to its end (quotes included, so the next
+    // record starts in the right place), but its text is dropped as soon as it goes over the limit
+    private static final class CsvRecordReader {
+
+        private final Reader reader;
+        private final int maxFieldLength;
+        private final int maxRecordLength;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+        private int pushedBack = -2; // -2 = nothing pushed back
+
+        private int line = 1; // Line the reader is on
+        private int recordLine; // Line where the record last returned by next() starts
+        private String recordError; // Why the record last returned by next() is rejected, null when it is not
+
+        private CsvRecordReader(Reader reader, int maxFieldLength, int maxRecordLength) {
+            this.reader = reader;
+            this.maxFieldLength = maxFieldLength;
+            this.maxRecordLength = maxRecordLength;
+        }
+
+        // Next record's fields (none when recordError is set), or null at the end of the input
+        private List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            recordError = null;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int fieldLength = 0; // Characters read for the field, also after its text was dropped
+            int recordLength = 0;
+            boolean quoted = false;
+            boolean wasQuoted = false; // Field started with a quote
+            while (true) {
+                if (c != -1 && ++recordLength > maxRecordLength && recordError == null) {
+                    tooLong(fields, field, "the record is longer than " + maxRecordLength + " characters");
+                }
+                if (quoted) {
+                    if (c == -1) {
+                        throw new MalformedUploadException(recordLine, "a quoted field is never closed");
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following != '"') {
+                            quoted = false; // Closing quote, look at the character after it normally
+                            c = following;
+                            continue;
+                        }
+                        recordLength++;
+                        append(fields, field, ++fieldLength, '"'); // Doubled quote inside a quoted field
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        append(fields, field, ++fieldLength, (char) c);
+                    }
+                } else if (c == '"' && fieldLength == 0 && !wasQuoted) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',') {
+                    if (recordError == null) {
+                        fields.add(field.toString());
+                    }
+                    field.setLength(0);
+                    fieldLength = 0;
+                    wasQuoted = false;
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            pushedBack = following;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    if (recordError == null) {
+                        fields.add(field.toString());
+                    }
+                    return fields;
+                } else {
+                    append(fields, field, ++fieldLength, (char) c);
+                }
+                c = read();
+            }
+        }
+
+        // Adds a character to the field unless the record is already rejected; fieldLength includes it
+        private void append(List<String> fields, StringBuilder field, int fieldLength, char c) {
+            if (recordError != null) {
+                return;
+            }
+            if (fieldLength > maxFieldLength) {
+                tooLong(fields, field, "a field is longer than " + maxFieldLength + " characters");
+                return;
+            }
+            field.append(c);
+        }
+
+        // Rejects the record being read and drops the text kept so far
+        private void tooLong(List<String> fields, StringBuilder field, String message) {
+            recordError = message;
+            fields.clear();
+            field.setLength(0);
+            field.trimToSize();
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+}
\ No newline at end of file
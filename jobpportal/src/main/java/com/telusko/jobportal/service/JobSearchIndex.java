@@ -0,0 +1,274 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.model.JobDocument; // Import the indexed document
+import com.telusko.jobportal.model.JobSearchResult; // Import the search hit
+
+import java.util.Arrays; // Import Arrays
+import java.util.BitSet; // Import BitSet
+import java.util.HashMap; // Import HashMap
+import java.util.LinkedHashSet; // Import LinkedHashSet
+import java.util.List; // Import List
+import java.util.Map; // Import Map
+import java.util.PriorityQueue; // Import PriorityQueue
+import java.util.Set; // Import Set
+import java.util.concurrent.locks.ReentrantReadWriteLock; // Import ReentrantReadWriteLock
+import java.util.function.Consumer; // Import Consumer
+// --- END OF IMPORT STATEMENTS ---
+
+// In-memory inverted index over job title, description and location, ranked with BM25
+// Plain class (not a Spring bean): JobSearchService owns one instance, fills it at startup and
+// adds jobs to it as they are saved. Searches never touch the database.
+//
+// Layout: every indexed job gets an internal doc number (0, 1, 2, ...). Each term maps to a posting
+// list of (doc number, weighted term frequency) in increasing doc order. Stored fields (job id, title,
+// location, length) live in parallel arrays indexed by doc number so hits can be rendered directly.
+public class JobSearchIndex {
+
+    // BM25 parameters (the usual defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field weights: a term in the title counts three times, in the location twice, in the description once
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // Longer "words" are almost always pasted URLs or garbage, skip them
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "our", "the", "to", "we", "with", "you", "your");
+
+    // Many concurrent searches, occasional writes
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>(); // term -> posting list
+    private final Map<Long, Integer> docByJobId = new HashMap<>(); // job id -> current doc number
+    private final BitSet deleted = new BitSet(); // doc numbers replaced by a newer version of the same job
+
+    // Stored fields, indexed by doc number
+    private long[] jobIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private String[] titles = new String[1024];
+    private String[] locations = new String[1024];
+
+    private int docCount; // doc numbers handed out so far (including deleted ones)
+    private int liveDocs; // docs that can still be returned
+    private long totalLength; // sum of the lengths of live docs (for the BM25 average length)
+
+    // Adds a job to the index, replacing any earlier version of the same job
+    public void add(JobDocument document) {
+        // Tokenize outside the lock, only the posting list updates need exclusive access
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        countTerms(document.getTitle(), TITLE_WEIGHT, termFrequencies);
+        countTerms(document.getDescription(), DESCRIPTION_WEIGHT, termFrequencies);
+        countTerms(document.getLocation(), LOCATION_WEIGHT, termFrequencies);
+        int length = 0;
+        for (int frequency : termFrequencies.values()) {
+            length += frequency;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByJobId.get(document.getId());
+            if (previous != null) {
+                // Re-indexing a job: hide the old version, its postings are skipped while scoring
+                deleted.set(previous);
+                liveDocs--;
+                totalLength -= docLengths[previous];
+            }
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            jobIds[doc] = document.getId();
+            docLengths[doc] = length;
+            titles[doc] = document.getTitle();
+            locations[doc] = document.getLocation();
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+            }
+            docByJobId.put(document.getId(), doc);
+            liveDocs++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Returns up to 'limit' jobs matching any of the query terms, best BM25 score first
+    // (ties go to the newer job)
+    public List<JobSearchResult> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(query, terms::add);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / liveDocs;
+
+            // The query's posting lists; their total length bounds the number of docs that get a score
+            Postings[] lists = new Postings[terms.size()];
+            int listCount = 0;
+            long postingCount = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    lists[listCount++] = list;
+                    postingCount += list.size;
+                }
+            }
+            if (listCount == 0) {
+                return List.of();
+            }
+            ScoreAccumulator scores = new ScoreAccumulator((int) Math.min(postingCount, liveDocs));
+
+            for (int l = 0; l < listCount; l++) {
+                Postings list = lists[l];
+                // Document frequency includes replaced docs; re-saves are rare, so the skew is negligible
+                int documentFrequency = Math.min(list.size, liveDocs);
+                double idf = Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    int tf = list.frequencies[i];
+                    double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores.add(doc, (float) (idf * tf * (K1 + 1) / (tf + norm)));
+                }
+            }
+
+            // Keep the best 'limit' docs in a min-heap (worst hit on top), by accumulator slot
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, (a, b) -> compareHits(scores, a, b));
+            for (int slot = 0; slot < scores.docs.length; slot++) {
+                if (scores.docs[slot] == ScoreAccumulator.EMPTY) {
+                    continue;
+                }
+                if (best.size() < limit) {
+                    best.add(slot);
+                } else if (compareHits(scores, slot, best.peek()) > 0) {
+                    best.poll();
+                    best.add(slot);
+                }
+            }
+
+            JobSearchResult[] results = new JobSearchResult[best.size()];
+            for (int i = results.length - 1; i >= 0; i--) {
+                int slot = best.poll();
+                int doc = scores.docs[slot];
+                results[i] = new JobSearchResult(jobIds[doc], titles[doc], locations[doc], scores.scores[slot]);
+            }
+            return Arrays.asList(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of jobs currently searchable
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Splits text into lower-case alphanumeric terms, dropping stop words and over-long tokens
+    // Used for both documents and queries so they always agree
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+                continue;
+            }
+            if (token.length() > 0) {
+                String term = token.toString();
+                if (term.length() <= MAX_TOKEN_LENGTH && !STOP_WORDS.contains(term)) {
+                    sink.accept(term);
+                }
+                token.setLength(0);
+            }
+        }
+    }
+
+    private static void countTerms(String text, int weight, Map<String, Integer> termFrequencies) {
+        tokenize(text, term -> termFrequencies.merge(term, weight, Integer::sum));
+    }
+
+    // Orders two accumulator slots by score, then by job id (newer jobs win ties)
+    private int compareHits(ScoreAccumulator scores, int a, int b) {
+        int byScore = Float.compare(scores.scores[a], scores.scores[b]);
+        return byScore != 0 ? byScore : Long.compare(jobIds[scores.docs[a]], jobIds[scores.docs[b]]);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= jobIds.length) {
+            return;
+        }
+        int newLength = Math.max(required, jobIds.length * 2);
+        jobIds = Arrays.copyOf(jobIds, newLength);
+        docLengths = Arrays.copyOf(docLengths, newLength);
+        titles = Arrays.copyOf(titles, newLength);
+        locations = Arrays.copyOf(locations, newLength);
+    }
+
+    // Growable posting list of (doc number, weighted term frequency) pairs
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    // Scores of one query, doc number -> accumulated BM25 score (open addressing, linear probing)
+    // Sized to the postings the query reads, at most half full, and dropped after the query: memory follows
+    // the query instead of the index size, and nothing is pinned per request thread (or reallocated for
+    // every virtual thread, as a per-thread float[docCount] would be).
+    private static final class ScoreAccumulator {
+        private static final int EMPTY = -1;
+
+        private final int[] docs; // Doc number per slot (EMPTY = free)
+        private final float[] scores; // Score per slot
+        private final int mask;
+
+        private ScoreAccumulator(int expectedDocs) {
+            int capacity = Integer.highestOneBit(Math.max(expectedDocs, 4) * 2 - 1) << 1; // Power of two >= 2x
+            docs = new int[capacity];
+            Arrays.fill(docs, EMPTY);
+            scores = new float[capacity];
+            mask = capacity - 1;
+        }
+
+        private void add(int doc, float score) {
+            int hash = doc * 0x9E3779B9; // Spreads consecutive doc numbers over the table
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (docs[slot] != EMPTY && docs[slot] != doc) {
+                slot = (slot + 1) & mask;
+            }
+            docs[slot] = doc;
+            scores[slot] += score;
+        }
+    }
+}
\ No newline at end of file
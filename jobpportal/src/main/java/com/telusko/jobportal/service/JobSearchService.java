@@ -0,0 +1,96 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.event.JobsSavedEvent; // Import the job saved event
+import com.telusko.jobportal.model.Job; // Import Job entity
+import com.telusko.jobportal.model.JobDocument; // Import the indexed document
+import com.telusko.jobportal.model.JobSearchResult; // Import the search hit
+import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
+import org.slf4j.Logger; // Import Logger
+import org.slf4j.LoggerFactory; // Import LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Import ApplicationReadyEvent
+import org.springframework.context.event.EventListener; // Import EventListener
+import org.springframework.data.domain.Limit; // Import Limit
+import org.springframework.stereotype.Service; // Import Service annotation
+
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Full-text job search backed by an in-memory JobSearchIndex
+// The index is loaded from the job table once after startup and then kept current from
+// JobsSavedEvent, so search requests never reach MySQL
+@Service // Mark this as a Spring service
+public class JobSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSearchService.class);
+
+    // Rows read per query while loading the index at startup
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // Maximum number of hits returned for one query
+    public static final int MAX_RESULTS = 50;
+
+    private final JobRepository jobRepository;
+    private final JobSearchIndex index = new JobSearchIndex();
+
+    private volatile boolean ready; // true once the startup load has finished
+
+    // Constructor injection
+    public JobSearchService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    // Loads every job into the index on a background thread so startup is not held up
+    // Searches during the load see the jobs indexed so far
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        Thread loader = new Thread(this::loadAllJobs, "job-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // Adds newly saved jobs to the index (also covers jobs saved while the startup load is running,
+    // the index replaces duplicates by job id)
+    @EventListener
+    public void onJobsSaved(JobsSavedEvent event) {
+        for (Job job : event.getJobs()) {
+            index.add(JobDocument.of(job));
+        }
+    }
+
+    // Runs a ranked search; blank queries return no results
+    public List<JobSearchResult> search(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return index.search(query, MAX_RESULTS);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int indexedJobCount() {
+        return index.size();
+    }
+
+    // Walks the job table in id order with keyset batches, reading only the searchable columns
+    private void loadAllJobs() {
+        long start = System.nanoTime();
+        try {
+            long lastId = 0;
+            List<JobDocument> batch;
+            do {
+                batch = jobRepository.findDocumentsAfter(lastId, Limit.of(LOAD_BATCH_SIZE));
+                for (JobDocument document : batch) {
+                    index.add(document);
+                    lastId = document.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            ready = true;
+            log.info("Job search index loaded: {} jobs in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Loading the job search index failed; search results will be incomplete", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import com.telusko.jobportal.event.JobsSavedEvent; // Import the job saved event
+import com.telusko.jobportal.model.Job; // Import Job entity
+import com.telusko.jobportal.model.JobPage; // Import the page model
+import com.telusko.jobportal.model.JobSummary; // Import the listing projection
+import com.telusko.jobportal.repository.JobRepository; // Import JobRepository
+import org.springframework.context.ApplicationEventPublisher; // Import ApplicationEventPublisher
+import org.springframework.data.domain.Limit; // Import Limit
+import org.springframework.stereotype.Service; // Import Service annotation
+
+import java.time.LocalDateTime; // Import LocalDateTime
+import java.util.ArrayList; // Import ArrayList
+import java.util.Collections; // Import Collections
+import java.util.List; // Import List
+// --- END OF IMPORT STATEMENTS ---
+
+// Service for posting jobs and for the public job listing
+// Pages through jobs newest first using keyset cursors (see JobRepository), so a page deep in the
+// listing costs the same single index seek as the first one. Pages inside the JobCatalogCache
+// snapshot are served from memory without touching the database.
+@Service // Mark this as a Spring service
+public class JobService {
+
+    // Number of jobs shown per listing page
+    public static final int PAGE_SIZE = 20;
+
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher; // Notifies in-memory read models of new jobs
+    private final JobCatalogCache catalogCache; // Snapshot of the newest listing rows
+
+    // Constructor injection
+    public JobService(JobRepository jobRepository, ApplicationEventPublisher eventPublisher, JobCatalogCache catalogCache) {
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogCache = catalogCache;
+    }
+
+    // Saves a job and publishes a JobsSavedEvent so the search index (and other listeners) pick it up
+    // Every code path that creates jobs should go through here
+    public Job postJob(Job job) {
+        stampPostedAt(job);
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobsSavedEvent(List.of(saved)));
+        return saved;
+    }
+
+    // Saves several jobs in one transaction (inserts are JDBC-batched) and publishes one JobsSavedEvent
+    // after the commit, so the whole batch appears in the listing and search at once
+    public List<Job> postJobs(List<Job> jobs) {
+        jobs.forEach(JobService::stampPostedAt);
+        List<Job> saved = jobRepository.saveAll(jobs);
+        eventPublisher.publishEvent(new JobsSavedEvent(saved));
+        return saved;
+    }
+
+    // Loads one page of the listing
+    // before   - id cursor from a "next" link: show jobs older than this id
+    // after    - id cursor from a "previous" link: show jobs newer than this id
+    // location - optional exact location filter (blank means all locations)
+    public JobPage listJobs(Long before, Long after, String location) {
+        String locationFilter = (location == null || location.isBlank()) ? null : location.trim();
+
+        if (after != null) {
+            // Walking backwards: read the PAGE_SIZE rows just above the cursor (plus one to see if there are more)
+            List<JobSummary> rows = catalogCache.rowsAfter(after, locationFilter, PAGE_SIZE + 1)
+                    .orElseGet(() -> locationFilter == null
+                            ? jobRepository.findSummariesAfter(after, Limit.of(PAGE_SIZE + 1))
+                            : jobRepository.findSummariesByLocationAfter(locationFilter, after, Limit.of(PAGE_SIZE + 1)));
+            if (rows.isEmpty()) {
+                // Nothing newer than the cursor (e.g. stale link), fall back to the first page
+                return listJobs(null, null, locationFilter);
+            }
+            boolean hasNewer = rows.size() > PAGE_SIZE;
+            List<JobSummary> page = new ArrayList<>(rows.subList(0, Math.min(rows.size(), PAGE_SIZE)));
+            Collections.reverse(page); // Query returns oldest first, the listing shows newest first
+            // The row at 'after' is older than everything here, so an older page always exists
+            return new JobPage(page, page.get(page.size() - 1).getId(), hasNewer ? page.get(0).getId() : null);
+        }
+
+        // Walking forwards (or first page): read the PAGE_SIZE rows just below the cursor (plus one)
+        long cursor = before != null ? before : Long.MAX_VALUE;
+        List<JobSummary> rows = catalogCache.rowsBefore(cursor, locationFilter, PAGE_SIZE + 1)
+                .orElseGet(() -> locationFilter == null
+                        ? jobRepository.findSummariesBefore(cursor, Limit.of(PAGE_SIZE + 1))
+                        : jobRepository.findSummariesByLocationBefore(locationFilter, cursor, Limit.of(PAGE_SIZE + 1)));
+        boolean hasOlder = rows.size() > PAGE_SIZE;
+        List<JobSummary> page = rows.size() > PAGE_SIZE ? rows.subList(0, PAGE_SIZE) : rows;
+        Long nextCursor = hasOlder ? page.get(page.size() - 1).getId() : null;
+        // Only pages reached through a cursor have newer jobs above them
+        Long prevCursor = (before != null && !page.isEmpty()) ? page.get(0).getId() : null;
+        return new JobPage(page, nextCursor, prevCursor);
+    }
+
+    // Records the posting time (for the "posted within" filter) unless the caller already set one
+    private static void stampPostedAt(Job job) {
+        if (job.getPostedAt() == null) {
+            job.setPostedAt(LocalDateTime.now());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import org.springframework.security.authentication.AuthenticationServiceException; // Import AuthenticationServiceException
+// --- END OF IMPORT STATEMENTS ---
+
+// Thrown when the password hashing pool has no room for another BCrypt job
+// It is an AuthenticationException so a login that hits it goes to the failure handler (503 page) instead of
+// being reported as an internal error; registration maps it to 503 in ServiceBusyAdvice
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
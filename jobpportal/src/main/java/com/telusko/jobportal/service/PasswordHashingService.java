@@ -0,0 +1,122 @@
+package com.telusko.jobportal.service;
+
+// --- IMPORT STATEMENTS ---
+import io.micrometer.core.instrument.Counter; // Import Counter
+import io.micrometer.core.instrument.Gauge; // Import Gauge
+import io.micrometer.core.instrument.MeterRegistry; // Import MeterRegistry
+import io.micrometer.core.instrument.Timer; // Import Timer
+import org.springframework.beans.factory.DisposableBean; // Import DisposableBean
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder; // Import BCryptPasswordEncoder
+import org.springframework.security.crypto.password.PasswordEncoder; // Import PasswordEncoder
+
+import java.util.concurrent.ArrayBlockingQueue; // Import ArrayBlockingQueue
+import java.util.concurrent.Callable; // Import Callable
+import java.util.concurrent.ExecutionException; // Import ExecutionException
+import java.util.concurrent.Future; // Import Future
+import java.util.concurrent.RejectedExecutionException; // Import RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor; // Import ThreadPoolExecutor
+import java.util.concurrent.TimeUnit; // Import TimeUnit
+import java.util.concurrent.atomic.AtomicInteger; // Import AtomicInteger
+import java.util.regex.Matcher; // Import Matcher
+import java.util.regex.Pattern; // Import Pattern
+// --- END OF IMPORT STATEMENTS ---
+
+// BCrypt password encoder that runs the hashing on its own bounded pool
+// BCrypt is deliberately slow (tens of milliseconds of pure CPU). Run directly on request threads, a login
+// spike keeps every core busy and even static pages stall. Here at most 'threads' hashes run at once (one
+// per core by default) and at most 'queueCapacity' wait; anything beyond that fails fast with
+// PasswordHashingBusyException so the caller can answer 503 with Retry-After.
+//
+// Cost changes: hashes made with a different cost than the configured one report upgradeEncoding() = true,
+// and DaoAuthenticationProvider re-hashes them on the next successful login (see CustomUserDetailsService).
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    // $2a$10$... -> version and cost
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(int strength, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("portal.password.hash").tag("operation", "encode")
+                .description("Time spent computing BCrypt hashes").register(meterRegistry);
+        this.matchesTimer = Timer.builder("portal.password.hash").tag("operation", "matches")
+                .description("Time spent computing BCrypt hashes").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("portal.password.hash.rejected")
+                .description("Hash requests turned away because the pool was full").register(meterRegistry);
+        Gauge.builder("portal.password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("Hash requests waiting for a hashing thread").register(meterRegistry);
+        Gauge.builder("portal.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes being computed").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // True when the hash was made with a different cost than the configured one (higher or lower)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(2)) != strength;
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // Runs the hash on the pool and waits for it; the calling (request) thread only blocks, it burns no CPU
+    private <T> T run(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(hash);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Too many password checks in progress, try again shortly");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for the password check");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
\ No newline at end of file
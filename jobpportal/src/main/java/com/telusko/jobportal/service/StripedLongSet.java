@@ -0,0 +1,149 @@
+package com.telusko.jobportal.service;
+
+// Thread-safe set of long values without boxing (8 bytes per slot instead of ~50 for a Set<Long> entry)
+// Plain class (not a Spring bean), used by ApplicationDuplicateGuard.
+//
+// Values are spread over a fixed number of stripes by hash; each stripe is an open-addressing hash table
+// (linear probing, kept at most half full) guarded by its own lock, so threads touching different
+// stripes never wait for each other. 0 marks an empty slot and cannot be stored.
+public class StripedLongSet {
+
+    private static final int STRIPES = 64; // Power of two
+    private static final int INITIAL_STRIPE_CAPACITY = 64; // Power of two
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public StripedLongSet() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // Adds the value; false if it was already present
+    public boolean add(long value) {
+        checkValue(value);
+        long hash = mix(value);
+        Stripe stripe = stripes[(int) (hash >>> 58)]; // Top 6 bits pick the stripe, the low bits the slot
+        synchronized (stripe) {
+            return stripe.add(value, hash);
+        }
+    }
+
+    public boolean contains(long value) {
+        checkValue(value);
+        long hash = mix(value);
+        Stripe stripe = stripes[(int) (hash >>> 58)];
+        synchronized (stripe) {
+            return stripe.indexOf(value, hash) >= 0;
+        }
+    }
+
+    // Removes the value; false if it was not present
+    public boolean remove(long value) {
+        checkValue(value);
+        long hash = mix(value);
+        Stripe stripe = stripes[(int) (hash >>> 58)];
+        synchronized (stripe) {
+            return stripe.remove(value, hash);
+        }
+    }
+
+    // Number of values (sums the stripes one after the other, so only exact when nothing is changing)
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private static void checkValue(long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("0 cannot be stored");
+        }
+    }
+
+    // Finalizer of MurmurHash3: packed ids differ mostly in their low bits, this spreads them over all 64
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Stripe {
+
+        private long[] slots = new long[INITIAL_STRIPE_CAPACITY];
+        private int size;
+
+        private int indexOf(long value, long hash) {
+            int mask = slots.length - 1;
+            for (int i = (int) hash & mask; ; i = (i + 1) & mask) {
+                long slot = slots[i];
+                if (slot == value) {
+                    return i;
+                }
+                if (slot == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        private boolean add(long value, long hash) {
+            if (indexOf(value, hash) >= 0) {
+                return false;
+            }
+            if ((size + 1) * 2 > slots.length) {
+                grow();
+            }
+            insert(value, hash);
+            size++;
+            return true;
+        }
+
+        private boolean remove(long value, long hash) {
+            int index = indexOf(value, hash);
+            if (index < 0) {
+                return false;
+            }
+            // Backward-shift deletion: move later entries of the probe run up so no tombstones are needed
+            int mask = slots.length - 1;
+            int hole = index;
+            for (int i = (hole + 1) & mask; slots[i] != 0; i = (i + 1) & mask) {
+                int home = (int) mix(slots[i]) & mask;
+                // The entry may fill the hole if its home slot is not inside (hole, i]
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    slots[hole] = slots[i];
+                    hole = i;
+                }
+            }
+            slots[hole] = 0;
+            size--;
+            return true;
+        }
+
+        private void insert(long value, long hash) {
+            int mask = slots.length - 1;
+            int i = (int) hash & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = value;
+        }
+
+        private void grow() {
+            long[] old = slots;
+            slots = new long[old.length * 2];
+            for (long value : old) {
+                if (value != 0) {
+                    insert(value, mix(value));
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.telusko.jobportal.service;
+
+// Thrown when the application submission queue has no room (or is shut down)
+// Callers should answer 503 and ask the client to retry shortly
+public class SubmissionQueueFullException extends RuntimeException {
+
+    public SubmissionQueueFullException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+-- Schema as Hibernate's ddl-auto created it before migrations were introduced (H2, used by the tests).
+-- Keep in step with db/migration/mysql.
+
+create table user (
+    id bigint generated by default as identity,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('ROLE_ADMIN','ROLE_USER')),
+    username varchar(255) not null,
+    primary key (id),
+    constraint UK_sb8bbouer5wak8vyiiy4pf2bx unique (username)
+);
+
+create table job (
+    id bigint generated by default as identity,
+    posted_by_id bigint not null,
+    description TEXT,
+    location varchar(255),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table application (
+    applicant_id bigint not null,
+    application_date timestamp(6) not null,
+    id bigint generated by default as identity,
+    job_id bigint not null,
+    cover_letter TEXT,
+    primary key (id)
+);
+
+alter table application add constraint FK1vur8fl2uitglu5w2wbix94fi foreign key (applicant_id) references user (id);
+alter table application add constraint FKls6sryk64ga8o5t4bym8qu3vm foreign key (job_id) references job (id);
+alter table job add constraint FKepwxoimy9stpqdbebngwnptk9 foreign key (posted_by_id) references user (id);
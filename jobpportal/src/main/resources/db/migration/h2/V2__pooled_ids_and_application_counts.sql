@@ -0,0 +1,26 @@
+-- Same objects as db/migration/mysql/V2 (H2 has real sequences; IdSequenceAligner restarts them past the existing ids)
+
+create sequence user_seq start with 1 increment by 50;
+create sequence job_seq start with 1 increment by 50;
+create sequence application_seq start with 1 increment by 50;
+
+create table job_application_count (
+    application_count bigint not null,
+    job_id bigint not null,
+    last_application_at timestamp(6),
+    primary key (job_id)
+);
+
+create table job_application_daily_count (
+    application_day date not null,
+    application_count bigint not null,
+    job_id bigint not null,
+    primary key (application_day, job_id)
+);
+
+delete from application where id not in
+    (select keep_id from (select min(id) as keep_id from application group by job_id, applicant_id) kept);
+alter table application add constraint uk_application_job_applicant unique (job_id, applicant_id);
+
+create index idx_job_location_id on job (location, id);
+create index idx_application_job_date on application (job_id, application_date);
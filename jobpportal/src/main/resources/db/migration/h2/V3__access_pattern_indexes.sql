@@ -0,0 +1,4 @@
+-- Same indexes as db/migration/mysql/V3 (H2 keeps the indexes it made for the foreign keys, nothing is dropped here)
+
+create index idx_job_posted_by_id on job (posted_by_id, id);
+create index idx_application_applicant on application (applicant_id);
@@ -0,0 +1,4 @@
+-- Same column changes as db/migration/mysql/V4 (H2 converts the existing text to its UTF-8 bytes)
+
+alter table job alter column description set data type blob;
+alter table application alter column cover_letter set data type blob;
@@ -0,0 +1,3 @@
+-- Same column as db/migration/mysql/V5
+
+alter table job add column posted_at timestamp(6);
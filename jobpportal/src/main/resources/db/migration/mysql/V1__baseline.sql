@@ -0,0 +1,35 @@
+-- Schema as Hibernate's ddl-auto=update created it before migrations were introduced, with IDENTITY ids.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and start at V2.
+
+create table user (
+    id bigint not null auto_increment,
+    password varchar(255) not null,
+    role enum ('ROLE_ADMIN','ROLE_USER') not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table job (
+    id bigint not null auto_increment,
+    posted_by_id bigint not null,
+    description TEXT,
+    location varchar(255),
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table application (
+    applicant_id bigint not null,
+    application_date datetime(6) not null,
+    id bigint not null auto_increment,
+    job_id bigint not null,
+    cover_letter TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+-- Constraint names are the ones Hibernate generated, so baselined databases have the same names
+alter table user add constraint UK_sb8bbouer5wak8vyiiy4pf2bx unique (username);
+
+alter table application add constraint FK1vur8fl2uitglu5w2wbix94fi foreign key (applicant_id) references user (id);
+alter table application add constraint FKls6sryk64ga8o5t4bym8qu3vm foreign key (job_id) references job (id);
+alter table job add constraint FKepwxoimy9stpqdbebngwnptk9 foreign key (posted_by_id) references user (id);
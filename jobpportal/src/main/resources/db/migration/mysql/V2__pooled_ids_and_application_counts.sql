@@ -0,0 +1,46 @@
+-- Objects that ddl-auto=update added after the V1 schema, before migrations were introduced:
+--   id sequences  - Job, Application and User take pooled sequence ids instead of AUTO_INCREMENT ones. MySQL has
+--                   no sequences, Hibernate emulates each with a one-row table. They start at 1 and are moved past
+--                   the existing ids on startup (IdSequenceAligner). The id columns keep AUTO_INCREMENT, which is
+--                   never used because Hibernate always supplies the id.
+--   counters      - per job and per job and day (ApplicationCountService fills them on the first start)
+--   one application per (job, applicant) - repeats from double clicks are removed first, keeping the oldest
+--                   row of each pair, because the constraint cannot be added while they exist
+--   indexes       - jobs of a location in id order, and the applications of a job by date
+
+create table user_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into user_seq values (1);
+
+create table job_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into job_seq values (1);
+
+create table application_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into application_seq values (1);
+
+create table job_application_count (
+    application_count bigint not null,
+    job_id bigint not null,
+    last_application_at datetime(6),
+    primary key (job_id)
+) engine=InnoDB;
+
+create table job_application_daily_count (
+    application_day date not null,
+    application_count bigint not null,
+    job_id bigint not null,
+    primary key (application_day, job_id)
+) engine=InnoDB;
+
+-- MIN(id) is wrapped in a derived table because MySQL cannot read the table it deletes from
+delete from application where id not in
+    (select keep_id from (select min(id) as keep_id from application group by job_id, applicant_id) kept);
+alter table application add constraint uk_application_job_applicant unique (job_id, applicant_id);
+
+create index idx_job_location_id on job (location, id);
+create index idx_application_job_date on application (job_id, application_date);
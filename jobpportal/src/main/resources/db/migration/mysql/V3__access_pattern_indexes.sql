@@ -0,0 +1,13 @@
+-- Named indexes for the access paths the portal uses (see the repositories):
+--   job (posted_by_id, id)     - an admin's own jobs (JobRepository.findByPostedBy), already in id order
+--   application (applicant_id) - backs the foreign key to user, checked whenever a user row is deleted or re-keyed
+-- The per-job applications page, application (job_id, application_date), is served by
+-- idx_application_job_date from V2.
+
+create index idx_job_posted_by_id on job (posted_by_id, id);
+create index idx_application_applicant on application (applicant_id);
+
+-- InnoDB added an index named after each of these foreign keys when the constraint was created.
+-- The indexes above now back the constraints, so the duplicates are dropped to save a write per insert.
+drop index FKepwxoimy9stpqdbebngwnptk9 on job;
+drop index FK1vur8fl2uitglu5w2wbix94fi on application;
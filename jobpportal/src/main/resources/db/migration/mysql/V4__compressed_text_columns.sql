@@ -0,0 +1,7 @@
+-- Job descriptions and cover letters move from TEXT to BLOB, because long ones are now written
+-- gzip-compressed (see CompressedTextConverter). Both types hold up to 64 KB and are stored alike by InnoDB.
+-- The conversion keeps the utf8mb4 bytes of the existing rows; the converter reads text without the gzip
+-- header as plain UTF-8, so those rows stay as they are until they are rewritten.
+
+alter table job modify description blob;
+alter table application modify cover_letter blob;
@@ -0,0 +1,4 @@
+-- Posting time of a job, for the "posted within" filter (JobFilterService)
+-- Jobs posted before this migration have no known posting time and stay null.
+
+alter table job add column posted_at datetime(6);
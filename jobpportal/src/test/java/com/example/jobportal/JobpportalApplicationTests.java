@@ -1,9 +1,12 @@
 package com.example.jobportal;
 
+import com.telusko.jobportal.JobpportalApplication;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+@SpringBootTest(classes = JobpportalApplication.class)
+@ActiveProfiles("test")
 class JobpportalApplicationTests {
 
     @Test
@@ -0,0 +1,147 @@
+package com.telusko.jobportal.benchmark;
+
+import com.telusko.jobportal.JobpportalApplication;
+import com.telusko.jobportal.model.Application;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.ApplicationCountService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// Boots the portal once per benchmark JVM against an in-memory H2 database seeded with a realistic catalog:
+// 50 recruiters, 10,000 applicants, 10,000 jobs across 12 locations and 50,000 applications, 10,000 of them
+// for one popular job (HOT_JOB_TITLE)
+final class PortalFixture {
+
+    static final int ADMINS = 50;
+    static final int APPLICANTS = 10_000; // At least HOT_JOB_APPLICATIONS: one application per applicant and job
+    static final int JOBS = 10_000;
+    static final int APPLICATIONS = 50_000;
+    static final int HOT_JOB_APPLICATIONS = 10_000;
+    static final String HOT_JOB_TITLE = "Senior Java Developer (popular)";
+    static final String[] LOCATIONS = {
+            "Bengaluru", "Hyderabad", "Pune", "Chennai", "Mumbai", "Delhi",
+            "Remote", "London", "Berlin", "New York", "Toronto", "Singapore"};
+
+    private static final String[] ROLES = {
+            "Java Developer", "Spring Boot Engineer", "Frontend Developer", "Data Engineer", "QA Analyst",
+            "DevOps Engineer", "Product Manager", "Site Reliability Engineer", "Android Developer", "Data Scientist"};
+    private static final String DESCRIPTION = "We are looking for an engineer who enjoys building reliable web "
+            + "applications. You will design REST APIs, write SQL that scales, review code and mentor juniors. "
+            + "Our stack: Java 17, Spring Boot, MySQL, Thymeleaf, Docker and Kubernetes on a public cloud. "
+            + "Nice to have: experience with caching, message queues and performance tuning. ";
+
+    private static ConfigurableApplicationContext context;
+
+    private PortalFixture() {
+    }
+
+    static synchronized ConfigurableApplicationContext context() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(JobpportalApplication.class)
+                    .profiles("test")
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                            "--spring.jpa.properties.hibernate.generate_statistics=false",
+                            "--logging.level.root=WARN",
+                            "--logging.level.org.springframework.security=WARN");
+            seed(context);
+            Runtime.getRuntime().addShutdownHook(new Thread(context::close));
+        }
+        return context;
+    }
+
+    static String applicantName(int i) {
+        return "applicant" + i;
+    }
+
+    static Long hotJobPosterId() {
+        return context().getBean(JobRepository.class).findById(hotJobId()).orElseThrow().getPostedBy().getId();
+    }
+
+    static Long hotJobId() {
+        return context().getBean(JobRepository.class).findAll().stream()
+                .filter(job -> HOT_JOB_TITLE.equals(job.getTitle())).findFirst().orElseThrow().getId();
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JobRepository jobRepository = context.getBean(JobRepository.class);
+        ApplicationRepository applicationRepository = context.getBean(ApplicationRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        Random random = new Random(42);
+        String hash = new BCryptPasswordEncoder(10).encode("secret"); // Same cost as production, hashed once
+
+        List<User> admins = new ArrayList<>();
+        for (int i = 0; i < ADMINS; i++) {
+            admins.add(user("recruiter" + i, hash, Role.ROLE_ADMIN));
+        }
+        List<User> savedAdmins = tx.execute(status -> userRepository.saveAll(admins));
+
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicants.add(user(applicantName(i), hash, Role.ROLE_USER));
+        }
+        List<User> savedApplicants = tx.execute(status -> userRepository.saveAll(applicants));
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            Job job = new Job();
+            job.setTitle(i == JOBS / 2 ? HOT_JOB_TITLE : ROLES[random.nextInt(ROLES.length)] + " #" + i);
+            job.setDescription(DESCRIPTION.repeat(1 + random.nextInt(4)));
+            job.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+            job.setPostedBy(savedAdmins.get(random.nextInt(ADMINS)));
+            jobs.add(job);
+        }
+        List<Job> savedJobs = new ArrayList<>();
+        for (int from = 0; from < jobs.size(); from += 1_000) {
+            List<Job> chunk = jobs.subList(from, Math.min(from + 1_000, jobs.size()));
+            savedJobs.addAll(tx.execute(status -> jobRepository.saveAll(chunk)));
+        }
+
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        Set<Long> appliedPairs = new HashSet<>(); // (job index, applicant index): the table allows each pair once
+        for (int from = 0; from < APPLICATIONS; from += 1_000) {
+            List<Application> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 1_000, APPLICATIONS); i++) {
+                int applicant = i % APPLICANTS;
+                int job = i < HOT_JOB_APPLICATIONS ? JOBS / 2 : random.nextInt(JOBS);
+                while (!appliedPairs.add((long) job * APPLICANTS + applicant)) {
+                    job = random.nextInt(JOBS);
+                }
+                Application application = new Application();
+                application.setJob(savedJobs.get(job));
+                application.setApplicant(savedApplicants.get(applicant));
+                application.setApplicationDate(start.plusMinutes(i));
+                application.setCoverLetter(i % 3 == 0 ? null : "I would love to join your team. " + DESCRIPTION);
+                chunk.add(application);
+            }
+            tx.executeWithoutResult(status -> applicationRepository.saveAll(chunk));
+        }
+        // Seeded straight into the table, so derive the dashboard counters the way a first start would
+        context.getBean(ApplicationCountService.class).rebuildCounts();
+    }
+
+    private static User user(String username, String hash, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(hash);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package com.telusko.jobportal.benchmark;
+
+import com.telusko.jobportal.model.ApplicationSummary;
+import com.telusko.jobportal.model.JobDashboardRow;
+import com.telusko.jobportal.model.JobSummary;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// The queries behind the listing, the admin dashboard and applications view and login, on the seeded H2 catalog
+// (the catalog cache and search index are bypassed, these hit the database directly)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 21; // JobService reads one row more than it shows
+    private static final Sort APPLICATION_ORDER = Sort.by(Sort.Order.desc("applicationDate"), Sort.Order.desc("id"));
+
+    private JobRepository jobRepository;
+    private ApplicationRepository applicationRepository;
+    private UserRepository userRepository;
+    private long middleCursor;
+    private Long hotJobId;
+    private Long hotJobPosterId;
+
+    @Setup
+    public void setUp() {
+        jobRepository = PortalFixture.context().getBean(JobRepository.class);
+        applicationRepository = PortalFixture.context().getBean(ApplicationRepository.class);
+        userRepository = PortalFixture.context().getBean(UserRepository.class);
+        List<JobSummary> newest = jobRepository.findSummariesBefore(Long.MAX_VALUE, Limit.of(PortalFixture.JOBS / 2));
+        middleCursor = newest.get(newest.size() - 1).getId();
+        hotJobId = PortalFixture.hotJobId();
+        hotJobPosterId = PortalFixture.hotJobPosterId();
+    }
+
+    @Benchmark
+    public List<JobSummary> listingFirstPage() {
+        return jobRepository.findSummariesBefore(Long.MAX_VALUE, Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<JobSummary> listingDeepPage() {
+        return jobRepository.findSummariesBefore(middleCursor, Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<JobSummary> listingByLocation() {
+        return jobRepository.findSummariesByLocationBefore("Remote", middleCursor, Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<ApplicationSummary> applicationsFirstPage() {
+        return applicationRepository.findSummariesByJobId(hotJobId, PageRequest.of(0, 50, APPLICATION_ORDER));
+    }
+
+    @Benchmark
+    public Page<ApplicationSummary> applicationsLastPage() {
+        return applicationRepository.findSummariesByJobId(hotJobId,
+                PageRequest.of(PortalFixture.HOT_JOB_APPLICATIONS / 50 - 1, 50, APPLICATION_ORDER));
+    }
+
+    @Benchmark
+    public List<JobDashboardRow> adminDashboard() {
+        LocalDate today = LocalDate.now();
+        return jobRepository.findDashboardRows(hotJobPosterId, today, today.minusDays(JobRepository.DASHBOARD_RECENT_DAYS - 1));
+    }
+
+    @Benchmark
+    public Optional<User> findByUsername() {
+        return userRepository.findByUsername(PortalFixture.applicantName(4_321));
+    }
+}
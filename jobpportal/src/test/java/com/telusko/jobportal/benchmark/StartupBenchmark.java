@@ -0,0 +1,113 @@
+package com.telusko.jobportal.benchmark;
+
+import com.telusko.jobportal.JobpportalApplication;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Time from launching the JVM to the first 200 on /, for each startup variant (run by mvn verify -Pstartup)
+// Every run is a fresh JVM with the test profile (in-memory H2, so no MySQL is needed). The AOT/CDS variants
+// are measured when the startup build has produced target/jobportal.jsa and the AOT classes; all variants then
+// use the class path the archive was trained with, so the only difference between them is the flags.
+//
+// Arguments: [runs per variant, default 5]. Output of each launched JVM: target/startup-benchmark/*.log
+public final class StartupBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path ARCHIVE = TARGET.resolve("jobportal.jsa");
+    private static final Path AOT_INITIALIZER = TARGET.resolve("classes/" + JobpportalApplication.class.getName()
+            .replace('.', '/') + "__ApplicationContextInitializer.class");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final Path logs = TARGET.resolve("startup-benchmark");
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        new StartupBenchmark().run(runs);
+    }
+
+    private void run(int runs) throws Exception {
+        Files.createDirectories(logs);
+        boolean startupBuild = Files.exists(ARCHIVE) && Files.exists(AOT_INITIALIZER);
+        String classPath = startupBuild
+                ? "target/lib/*" + File.pathSeparator + System.getProperty("java.class.path")
+                : System.getProperty("java.class.path");
+
+        List<Variant> variants = new ArrayList<>();
+        variants.add(new Variant("eager", List.of(), "test"));
+        variants.add(new Variant("lazy", List.of(), "test,fast-startup"));
+        if (startupBuild) {
+            List<String> aotCds = List.of("-XX:SharedArchiveFile=" + ARCHIVE, "-Dspring.aot.enabled=true");
+            variants.add(new Variant("aot+cds", aotCds, "test"));
+            variants.add(new Variant("aot+cds+lazy", aotCds, "test,fast-startup"));
+        } else {
+            System.out.println("No startup build (target/jobportal.jsa), measuring without AOT and CDS");
+        }
+
+        System.out.printf("%-14s %8s %8s %8s   (ms to first 200 on /, %d runs)%n", "variant", "min", "median", "max", runs);
+        for (Variant variant : variants) {
+            List<Long> millis = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                millis.add(timeToFirstOk(variant, classPath, i));
+            }
+            Collections.sort(millis);
+            System.out.printf("%-14s %8d %8d %8d%n", variant.name, millis.get(0), millis.get(millis.size() / 2),
+                    millis.get(millis.size() - 1));
+        }
+    }
+
+    private long timeToFirstOk(Variant variant, String classPath, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArgs);
+        command.addAll(List.of("-cp", classPath, JobpportalApplication.class.getName(),
+                "--spring.profiles.active=" + variant.profiles, "--server.port=" + port));
+        Path log = logs.resolve(variant.name + "-" + run + ".log");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .timeout(Duration.ofSeconds(30)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException notListeningYet) {
+                    // Tomcat has not opened the port yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(variant.name + " did not answer within " + TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Variant(String name, List<String> jvmArgs, String profiles) {
+    }
+}
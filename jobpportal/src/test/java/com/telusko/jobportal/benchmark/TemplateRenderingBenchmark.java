@@ -0,0 +1,116 @@
+package com.telusko.jobportal.benchmark;
+
+import com.telusko.jobportal.config.JobRowFragmentCache;
+import com.telusko.jobportal.model.ApplicationSummary;
+import com.telusko.jobportal.model.FacetCount;
+import com.telusko.jobportal.model.JobFacets;
+import com.telusko.jobportal.model.JobFilter;
+import com.telusko.jobportal.model.JobPage;
+import com.telusko.jobportal.model.JobSummary;
+import com.telusko.jobportal.model.PostingAge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Thymeleaf rendering of the two list pages with 'rows' entries, using the application's template engine
+// Model data is built in memory so only rendering is measured (no database, no controller)
+// 'rowCache' compares view-jobs with its rows served from JobRowFragmentCache (warm after the first call,
+// as for a catalog that is browsed repeatedly) against rendering every row's fragment again
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TemplateRenderingBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean rowCache;
+
+    private ITemplateEngine templateEngine;
+    private IWebExchange exchange;
+    private Map<String, Object> viewJobsModel;
+    private Map<String, Object> applicationsModel;
+
+    @Setup
+    public void setUp() {
+        templateEngine = PortalFixture.context().getBean(ITemplateEngine.class);
+        exchange = JakartaServletWebApplication.buildApplication(new MockServletContext())
+                .buildExchange(new MockHttpServletRequest("GET", "/user/view-jobs"), new MockHttpServletResponse());
+
+        List<JobSummary> jobs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long id = 100_000L - i;
+            jobs.add(new JobSummary(id, "Java Developer #" + id, PortalFixture.LOCATIONS[i % PortalFixture.LOCATIONS.length]));
+        }
+        viewJobsModel = new HashMap<>();
+        viewJobsModel.put("jobs", jobs);
+        viewJobsModel.put("page", new JobPage(jobs, jobs.get(rows - 1).getId(), jobs.get(0).getId()));
+        viewJobsModel.put("location", null);
+        JobFilter filter = new JobFilter(null, null, null);
+        List<FacetCount> locationFacets = new ArrayList<>();
+        for (String location : PortalFixture.LOCATIONS) {
+            locationFacets.add(new FacetCount(location, rows, false, filter.withLocation(location)));
+        }
+        List<FacetCount> ageFacets = new ArrayList<>();
+        for (PostingAge age : PostingAge.values()) {
+            ageFacets.add(new FacetCount(age.getLabel(), rows, false, filter.withPostedWithin(age)));
+        }
+        viewJobsModel.put("filter", filter);
+        viewJobsModel.put("facets", new JobFacets(locationFacets, List.of(), ageFacets));
+        viewJobsModel.put("facetsReady", true);
+        viewJobsModel.put("jobRows", new JobRowFragmentCache(templateEngine, new SimpleMeterRegistry(), rowCache ? rows : 0));
+
+        List<ApplicationSummary> applications = new ArrayList<>(rows);
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        for (int i = 0; i < rows; i++) {
+            applications.add(new ApplicationSummary((long) i, PortalFixture.applicantName(i), start.plusMinutes(i),
+                    i % 3 == 0 ? null : "I would love to join your team and help build a great job portal."));
+        }
+        applicationsModel = new HashMap<>();
+        applicationsModel.put("jobId", 42L);
+        applicationsModel.put("jobTitle", PortalFixture.HOT_JOB_TITLE);
+        applicationsModel.put("applications", applications);
+        applicationsModel.put("applicationsPage", new PageImpl<>(applications, PageRequest.of(0, rows), rows * 3L));
+        applicationsModel.put("dir", "desc");
+    }
+
+    @Benchmark
+    public String viewJobs() {
+        return templateEngine.process("view-jobs", new WebContext(exchange, Locale.US, viewJobsModel));
+    }
+
+    @Benchmark
+    public String adminViewApplications() {
+        return templateEngine.process("admin-view-applications", new WebContext(exchange, Locale.US, applicationsModel));
+    }
+}
@@ -0,0 +1,40 @@
+package com.telusko.jobportal.benchmark;
+
+import com.telusko.jobportal.service.CustomUserDetailsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// The user lookup behind every login (/do-login), against the seeded H2 catalog
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserDetailsBenchmark {
+
+    private CustomUserDetailsService userDetailsService;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        userDetailsService = PortalFixture.context().getBean(CustomUserDetailsService.class);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        next = (next + 7919) % PortalFixture.APPLICANTS; // Spread the lookups over the whole table
+        return userDetailsService.loadUserByUsername(PortalFixture.applicantName(next));
+    }
+}
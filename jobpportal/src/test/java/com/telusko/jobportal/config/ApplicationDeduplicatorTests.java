@@ -0,0 +1,93 @@
+package com.telusko.jobportal.config;
+
+import com.telusko.jobportal.model.Application;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobApplicationCountRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationDeduplicatorTests {
+
+    @Autowired
+    private ApplicationDeduplicator deduplicator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobApplicationCountRepository countRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void repeatsFromBeforeTheConstraintAreRemovedKeepingTheOldest() throws Exception {
+        User admin = userRepository.save(newUser("dedupe-recruiter", Role.ROLE_ADMIN));
+        User applicant = userRepository.save(newUser("dedupe-applicant", Role.ROLE_USER));
+        Job job = new Job();
+        job.setTitle("Dedupe job");
+        job.setPostedBy(admin);
+        job = jobRepository.save(job);
+
+        // Recreate a legacy table: no constraint, the same application stored three times
+        jdbcTemplate.execute("ALTER TABLE application DROP CONSTRAINT " + Application.UNIQUE_JOB_APPLICANT);
+        Long first = null;
+        for (int i = 0; i < 3; i++) {
+            Application application = new Application();
+            application.setJob(job);
+            application.setApplicant(applicant);
+            application.setApplicationDate(LocalDateTime.now().minusMinutes(10 - i));
+            Long id = applicationRepository.save(application).getId();
+            first = first == null ? id : first;
+        }
+
+        deduplicator.enforceOneApplicationPerJob();
+
+        assertThat(applicationRepository.findAll()).extracting(Application::getId).containsExactly(first);
+        assertThat(countRepository.findById(job.getId()).orElseThrow().getApplicationCount()).isEqualTo(1);
+        Application repeat = new Application();
+        repeat.setJob(job);
+        repeat.setApplicant(applicant);
+        repeat.setApplicationDate(LocalDateTime.now());
+        assertThatThrownBy(() -> applicationRepository.saveAndFlush(repeat))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,78 @@
+package com.telusko.jobportal.config;
+
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdSequenceAlignerTests {
+
+    @Autowired
+    private IdSequenceAligner aligner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void newIdsStartAboveRowsInsertedBeforeTheSwitch() throws Exception {
+        // A row written with the old AUTO_INCREMENT column, far ahead of the sequence
+        jdbcTemplate.update("INSERT INTO user (id, username, password, role) VALUES (?, ?, ?, ?)",
+                100_000L, "legacy-user", "{noop}secret", Role.ROLE_USER.name());
+
+        aligner.alignSequences();
+        User created = userRepository.save(newUser("new-user"));
+
+        assertThat(created.getId()).isGreaterThan(100_000L);
+        assertThat(userRepository.findByUsername("legacy-user")).get().extracting(User::getId).isEqualTo(100_000L);
+    }
+
+    @Test
+    void insertsAreBatched() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            users.add(newUser("batched-" + i));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userRepository.saveAll(users);
+
+        // Three sequence calls for 120 ids plus one insert statement, instead of 120 round trips
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(userRepository.count()).isEqualTo(120);
+    }
+
+    private static User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(Role.ROLE_USER);
+        return user;
+    }
+}
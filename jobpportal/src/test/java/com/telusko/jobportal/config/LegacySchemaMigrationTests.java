@@ -0,0 +1,87 @@
+package com.telusko.jobportal.config;
+
+import com.telusko.jobportal.model.ApplicationSummary;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.JobApplicationCount;
+import com.telusko.jobportal.model.JobDetails;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobApplicationCountRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.JobService;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Starts the portal on a database created by the original ddl-auto=update setup, without Flyway history
+@SpringBootTest(properties = "spring.datasource.url=" + LegacySchemaMigrationTests.URL)
+@ActiveProfiles("test")
+class LegacySchemaMigrationTests {
+
+    static final String URL = "jdbc:h2:mem:legacyjobportaldb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobApplicationCountRepository countRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    // Runs before the context (and its migrations) start
+    @BeforeAll
+    static void createLegacyDatabase() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/h2-ddl-auto-schema.sql"))
+                .execute(new DriverManagerDataSource(URL, "sa", ""));
+    }
+
+    @Test
+    void legacyDatabaseIsBaselinedAtV1AndMigratedFromV2() {
+        // The context only starts when ddl-auto=validate accepts the migrated schema
+        MigrationInfo[] applied = flyway.info().applied();
+        assertThat(applied[0].getType().isBaseline()).isTrue();
+        assertThat(Arrays.stream(applied).map(MigrationInfo::getVersion).map(Object::toString))
+                .containsExactly("1", "2", "3", "4", "5");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void legacyRowsSurviveWithoutTheRepeatedApplication() {
+        assertThat(applicationRepository.count()).isEqualTo(3);
+        assertThat(applicationRepository.findSummariesByJobId(1L, PageRequest.of(0, 10)).getContent())
+                .extracting(ApplicationSummary::getCoverLetter).containsExactlyInAnyOrder("First letter", null);
+        assertThat(jobRepository.findDetailsById(1L)).get().extracting(JobDetails::getDescription).isEqualTo("Written as TEXT");
+        // The counters were filled from the remaining applications on the first start
+        assertThat(countRepository.findById(1L).map(JobApplicationCount::getApplicationCount)).contains(2L);
+    }
+
+    @Test
+    void newJobsTakeIdsPastTheLegacyOnes() {
+        Job job = new Job();
+        job.setTitle("First job after the migration");
+        job.setPostedBy(userRepository.findByUsername("legacy-recruiter").orElseThrow());
+        assertThat(jobService.postJob(job).getId()).isGreaterThan(2L);
+    }
+}
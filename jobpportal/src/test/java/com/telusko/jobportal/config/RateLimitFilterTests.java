@@ -0,0 +1,129 @@
+package com.telusko.jobportal.config;
+
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Small limits, so a few requests reach them (buckets refill slowly enough not to matter during the test)
+@SpringBootTest(properties = {
+        "portal.rate-limit.login.per-ip.capacity=5",
+        "portal.rate-limit.login.per-ip.per-minute=1",
+        "portal.rate-limit.login.per-username.capacity=2",
+        "portal.rate-limit.login.per-username.per-minute=1",
+        "portal.rate-limit.register.per-ip.capacity=1",
+        "portal.rate-limit.register.per-ip.per-minute=1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void refusesLoginsPerUsernameBeforeTheUserIsLookedUp() throws Exception {
+        User user = new User();
+        user.setUsername("target");
+        user.setPassword(passwordEncoder.encode("secret"));
+        user.setRole(Role.ROLE_USER);
+        userRepository.save(user);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(login("target", "wrong", "10.0.0.1"))
+                .andExpect(redirectedUrl("/login-user?error"));
+        mockMvc.perform(login("Target", "wrong", "10.0.0.2"))
+                .andExpect(redirectedUrl("/login-user?error"));
+
+        // Third attempt for the same account, from yet another address: refused without SQL or hashing
+        statistics.clear();
+        mockMvc.perform(login("target", "secret", "10.0.0.3"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"))
+                .andExpect(content().string("Too many requests. Please try again in 60 seconds."));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(meterRegistry.get("portal.rate-limit.rejected").tag("policy", "login-username").counter().count())
+                .isEqualTo(1);
+
+        // Other accounts are not affected
+        mockMvc.perform(login("someone-else", "wrong", "10.0.0.3"))
+                .andExpect(redirectedUrl("/login-user?error"));
+    }
+
+    @Test
+    void refusesLoginsPerClientAddressWhateverTheUsername() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(login("guess-" + i, "wrong", "10.0.1.1"))
+                    .andExpect(redirectedUrl("/login-user?error"));
+        }
+        mockMvc.perform(login("guess-5", "wrong", "10.0.1.1"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(login("guess-5", "wrong", "10.0.1.2"))
+                .andExpect(redirectedUrl("/login-user?error"));
+    }
+
+    @Test
+    void bothRegistrationFormsShareTheBucketOfAnAddress() throws Exception {
+        mockMvc.perform(post("/register-user").param("username", "first").param("password", "secret")
+                        .with(csrf()).with(user("visitor")).with(from("10.0.2.1")))
+                .andExpect(redirectedUrl("/login-user?registered"));
+        mockMvc.perform(post("/register-admin").param("username", "second").param("password", "secret")
+                        .with(csrf()).with(user("visitor")).with(from("10.0.2.1")))
+                .andExpect(status().isTooManyRequests());
+
+        assertThat(userRepository.findByUsername("second")).isEmpty();
+        // One policy for both forms: a single set of meters
+        assertThat(meterRegistry.get("portal.rate-limit.rejected").tag("policy", "register-ip").counters()).hasSize(1);
+        assertThat(meterRegistry.get("portal.rate-limit.rejected").tag("policy", "register-ip").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static MockHttpServletRequestBuilder login(String username, String password, String address) {
+        return post("/do-login").param("username", username).param("password", password).with(csrf()).with(from(address));
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.telusko.jobportal.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void allowsABurstThenRefillsAtTheConfiguredRate() {
+        RateLimiter limiter = new RateLimiter(3, 60, 100, now::get); // One token per second
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("alice")).isEqualTo(RateLimiter.ALLOWED);
+        }
+        long wait = limiter.tryAcquire("alice");
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("bob")).isEqualTo(RateLimiter.ALLOWED); // Buckets are per key
+
+        now.addAndGet(wait);
+        assertThat(limiter.tryAcquire("alice")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+
+        // A long pause refills the bucket up to its capacity, not beyond
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("alice")).isEqualTo(RateLimiter.ALLOWED);
+        }
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+    }
+
+    @Test
+    void dropsIdleKeysAndRefusesNewKeysWhileTheTableIsFullOfActiveOnes() {
+        RateLimiter limiter = new RateLimiter(2, 60, 2, now::get);
+        assertThat(limiter.tryAcquire("a")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("b")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // Both buckets are still refilling: no room for a third key, the known ones keep working
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(RateLimiter.ALLOWED);
+
+        // Once "b" is full again its bucket can go; "a" took two tokens and is still refilling
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("c")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // The periodic sweep empties the table once every bucket has refilled
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        limiter.tryAcquire("d");
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void neverHandsOutMoreThanTheBurstUnderConcurrentRequests() throws Exception {
+        RateLimiter limiter = new RateLimiter(500, 1, 10, now::get); // The clock stands still: no refill
+        AtomicLong allowed = new AtomicLong();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("shared") == RateLimiter.ALLOWED) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(allowed.get()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,172 @@
+package com.telusko.jobportal.config;
+
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.AuthenticatedUser;
+import com.telusko.jobportal.service.JobFilterService;
+import com.telusko.jobportal.service.JobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Primary and replica are two separate in-memory H2 databases with the same schema and no replication between
+// them, so where a row can be seen shows which database served the read
+@SpringBootTest(properties = {
+        "portal.read-replicas.urls=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "portal.read-replicas.read-your-writes-seconds=60"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTests {
+
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    static {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobFilterService jobFilterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User admin;
+
+    @BeforeEach
+    void createAdmin() {
+        admin = userRepository.save(newUser("routing-recruiter", Role.ROLE_ADMIN));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        replica.update("DELETE FROM job");
+        replica.update("DELETE FROM user");
+    }
+
+    @Test
+    void readOnlyTransactionsRunOnTheReplicaAndWritesOnThePrimary() {
+        Job job = new Job();
+        job.setTitle("Routed job");
+        job.setPostedBy(admin);
+        jobService.postJob(job);
+        // The replica only knows about rows it was given directly
+        replica.update("INSERT INTO user (id, username, password, role) VALUES (1, 'replica-only', 'x', 'ROLE_USER')");
+        replica.update("INSERT INTO job (id, title, posted_by_id) VALUES (1, 'Replica job', 1), (2, 'Another', 1)");
+        double replicaReads = reads("replica");
+
+        assertThat(jobRepository.count()).isEqualTo(2); // Read-only (Spring Data's default for count())
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job", Long.class)).isEqualTo(1); // No transaction
+        assertThat(reads("replica")).isEqualTo(replicaReads + 1);
+    }
+
+    @Test
+    void sessionReadsItsOwnWritesFromThePrimaryForAWhile() throws Exception {
+        MockHttpSession writer = new MockHttpSession();
+        mockMvc.perform(post("/admin/add-job").param("title", "Read your writes").param("location", "Pune")
+                        .session(writer).with(csrf()).with(user(principal())))
+                .andExpect(status().is3xxRedirection());
+
+        double pinned = reads("primary-read-your-writes");
+        mockMvc.perform(get("/admin/dashboard").session(writer).with(user(principal())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Read your writes")));
+        assertThat(reads("primary-read-your-writes")).isGreaterThan(pinned);
+
+        // Another session of the same admin has not written anything: it reads the (lagging) replica
+        double replicaReads = reads("replica");
+        mockMvc.perform(get("/admin/dashboard").session(new MockHttpSession()).with(user(principal())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("Read your writes"))));
+        assertThat(reads("replica")).isGreaterThan(replicaReads);
+    }
+
+    @Test
+    void jobsTheListingShowsAreFoundWhileTheReplicaHasNotReceivedThemYet() throws Exception {
+        while (!jobFilterService.isReady()) {
+            Thread.sleep(5);
+        }
+        Job job = new Job();
+        job.setTitle("Lagging job");
+        job.setLocation("Pune");
+        job.setPostedBy(admin);
+        jobService.postJob(job);
+        // A session that has not written anything reads the replica, which has neither the job nor its poster
+        AuthenticatedUser applicant = new AuthenticatedUser(admin.getId() + 1, "routing-applicant", "x", Role.ROLE_USER);
+        mockMvc.perform(get("/user/view-jobs").session(new MockHttpSession()).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Lagging job")))
+                .andExpect(content().string(containsString("routing-recruiter (1)")));
+
+        for (int view = 0; view < 2; view++) { // The second view is answered from the query cache
+            mockMvc.perform(get("/user/apply/{id}", job.getId()).session(new MockHttpSession()).with(user(applicant)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("Lagging job")));
+        }
+        mockMvc.perform(get("/user/apply/{id}", job.getId() + 1000).session(new MockHttpSession()).with(user(applicant)))
+                .andExpect(status().isNotFound());
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("portal.datasource.read-only.connections").tag("target", target).counter().count();
+    }
+
+    private AuthenticatedUser principal() {
+        return new AuthenticatedUser(admin.getId(), admin.getUsername(), admin.getPassword(), Role.ROLE_ADMIN);
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,102 @@
+package com.telusko.jobportal.config;
+
+import com.telusko.jobportal.model.Application;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.AuthenticatedUser;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestMetricsInterceptorTests {
+
+    private static final String HANDLER = "AdminController.viewApplications";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void recordsTimingsSqlAndLoadedEntitiesPerHandler() throws Exception {
+        User admin = userRepository.save(newUser("metrics-recruiter", Role.ROLE_ADMIN));
+        User applicant = userRepository.save(newUser("metrics-applicant", Role.ROLE_USER));
+        Job job = new Job();
+        job.setTitle("Measured job");
+        job.setPostedBy(admin);
+        job = jobRepository.save(job);
+        Application application = new Application();
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setApplicationDate(LocalDateTime.now());
+        applicationRepository.save(application);
+        long before = requestCount();
+
+        AuthenticatedUser principal = new AuthenticatedUser(admin.getId(), admin.getUsername(), admin.getPassword(), Role.ROLE_ADMIN);
+        mockMvc.perform(get("/admin/view-applications/{id}", job.getId()).with(user(principal)))
+                .andExpect(status().isOk());
+
+        assertThat(requestCount()).isEqualTo(before + 1);
+        DistributionSummary statements = meterRegistry.get("portal.request.sql.statements").tag("handler", HANDLER).summary();
+        // Only the page select: the job comes from the second-level cache (it was cached when saved) and
+        // Spring Data skips the count when the first page is not full
+        assertThat(statements.max()).isEqualTo(1);
+        // The job (and its poster); the applications come back as DTOs
+        DistributionSummary entities = meterRegistry.get("portal.request.entities.loaded").tag("handler", HANDLER).summary();
+        assertThat(entities.max()).isEqualTo(2);
+        assertThat(meterRegistry.get("portal.request.render").tag("handler", HANDLER).timer().count()).isEqualTo(before + 1);
+        assertThat(meterRegistry.get("portal.request.sql.time").tag("handler", HANDLER).timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    private long requestCount() {
+        Timer timer = meterRegistry.find("portal.request.latency").tag("handler", HANDLER).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,69 @@
+package com.telusko.jobportal.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchemaMigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void allMigrationsAreAppliedAndTheEntitiesValidateAgainstThem() {
+        // The context only starts when ddl-auto=validate accepts the migrated schema
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                .containsExactly("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    void accessPathIndexesExistWithTheirColumnOrder() throws Exception {
+        assertThat(indexColumns("job", "idx_job_posted_by_id")).containsExactly("posted_by_id", "id");
+        assertThat(indexColumns("application", "idx_application_job_date")).containsExactly("job_id", "application_date");
+        assertThat(indexColumns("application", "idx_application_applicant")).containsExactly("applicant_id");
+    }
+
+    @Test
+    void applicationsPageIsReadThroughItsIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM application WHERE job_id = 1 ORDER BY application_date", String.class);
+
+        assertThat(plan).contains("idx_application_job_date");
+    }
+
+    private List<String> indexColumns(String table, String index) throws Exception {
+        return JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> {
+            List<String> columns = new ArrayList<>();
+            try (ResultSet rs = metaData.getIndexInfo(null, null, table, false, false)) {
+                while (rs.next()) {
+                    if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        columns.add(rs.getString("COLUMN_NAME").toLowerCase());
+                    }
+                }
+            }
+            return columns;
+        });
+    }
+}
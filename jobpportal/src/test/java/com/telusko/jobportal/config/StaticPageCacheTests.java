@@ -0,0 +1,70 @@
+package com.telusko.jobportal.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticPageCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void servesTheRenderedLoginPageWithEachRequestsCsrfToken() throws Exception {
+        MvcResult first = mockMvc.perform(get("/login-user")).andExpect(status().isOk()).andReturn();
+        double hits = pageCacheHits();
+        MvcResult second = mockMvc.perform(get("/login-user")).andExpect(status().isOk()).andReturn();
+        assertThat(pageCacheHits()).isEqualTo(hits + 1);
+
+        String firstToken = csrfToken(first);
+        String secondToken = csrfToken(second);
+        assertThat(firstToken).isNotEqualTo(secondToken);
+        String firstPage = first.getResponse().getContentAsString();
+        String secondPage = second.getResponse().getContentAsString();
+        assertThat(second.getResponse().getContentType()).isEqualTo("text/html;charset=UTF-8");
+        // Both _csrf inputs (the template's own and the one added to th:action forms) carry the request's token
+        assertThat(secondPage.split(secondToken, -1)).hasSize(3);
+        assertThat(secondPage.replace(secondToken, firstToken)).isEqualTo(firstPage);
+        assertThat(secondPage).contains("action=\"/do-login\"");
+    }
+
+    @Test
+    void keepsOnePagePerModelAndRendersForLoggedInUsers() throws Exception {
+        String failed = mockMvc.perform(get("/login-user").param("error", ""))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(failed).contains("Invalid username or password for User.");
+        String plain = mockMvc.perform(get("/login-user")).andReturn().getResponse().getContentAsString();
+        assertThat(plain).doesNotContain("Invalid username or password");
+
+        assertThat(mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString())
+                .contains("Please log in or register:");
+        assertThat(mockMvc.perform(get("/").with(user("cached-page-visitor"))).andReturn().getResponse().getContentAsString())
+                .contains("You are logged in as <span>cached-page-visitor</span>")
+                .doesNotContain("Please log in or register:");
+    }
+
+    private double pageCacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "static-pages").tag("result", "hit").functionCounter().count();
+    }
+
+    private static String csrfToken(MvcResult result) {
+        return ((CsrfToken) result.getRequest().getAttribute(CsrfToken.class.getName())).getToken();
+    }
+}
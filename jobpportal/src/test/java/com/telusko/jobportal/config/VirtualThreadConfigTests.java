@@ -0,0 +1,58 @@
+package com.telusko.jobportal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The post-processor is tested directly: the configuration itself only loads on a Java 21 runtime
+class VirtualThreadConfigTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void limitsThePrimaryPoolAndEachReplicaPoolSeparately() throws Exception {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        BeanPostProcessor postProcessor = VirtualThreadConfig.connectionLimitingDataSourcePostProcessor(
+                beanFactory.getBeanProvider(MeterRegistry.class));
+
+        try (HikariDataSource primary = pool("vt-primary", 10);
+             HikariDataSource other = pool("vt-other", 5);
+             HikariDataSource replica = pool("replica-1", 3)) {
+            Object limitedPrimary = postProcessor.postProcessAfterInitialization(primary,
+                    DataSourceRoutingConfig.PRIMARY_DATA_SOURCE); // Held here: gauges only keep weak references
+            assertThat(limitedPrimary).isInstanceOfSatisfying(ConnectionLimitingDataSource.class,
+                            limited -> assertThat(limited.maxConnections()).isEqualTo(10));
+            assertThat(postProcessor.postProcessAfterInitialization(other, "otherDataSource")).isSameAs(other);
+
+            ReadReplicaDataSource replicas = new ReadReplicaDataSource(primary, List.of(replica), meterRegistry);
+            assertThat(postProcessor.postProcessAfterInitialization(replicas, "readReplicaDataSource")).isSameAs(replicas);
+            try (Connection ignored = replicas.getConnection()) {
+                assertThat(limiterGauge("replica-1")).isEqualTo(1);
+                assertThat(limiterGauge(DataSourceRoutingConfig.PRIMARY_DATA_SOURCE)).isZero();
+            }
+            assertThat(limiterGauge("replica-1")).isZero();
+        }
+    }
+
+    private double limiterGauge(String pool) {
+        return meterRegistry.get("portal.db.limiter.active").tag("pool", pool).gauge().value();
+    }
+
+    private static HikariDataSource pool(String name, int size) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name);
+        pool.setUsername("sa");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(size);
+        return pool;
+    }
+}
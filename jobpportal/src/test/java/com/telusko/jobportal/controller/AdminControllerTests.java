@@ -0,0 +1,312 @@
+package com.telusko.jobportal.controller;
+
+import com.telusko.jobportal.model.Application;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.ApplicationCountService;
+import com.telusko.jobportal.service.ApplicationSubmissionService;
+import com.telusko.jobportal.service.AuthenticatedUser;
+import com.telusko.jobportal.service.JobService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationCountService applicationCountService;
+
+    @Autowired
+    private ApplicationSubmissionService submissionService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User admin;
+
+    @BeforeEach
+    void createAdmin() {
+        admin = userRepository.save(newUser("recruiter", Role.ROLE_ADMIN));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void applicationsViewRunsAFixedNumberOfStatementsRegardlessOfApplicantCount() throws Exception {
+        Job small = jobWithApplicants("Small job", 60);
+        Job popular = jobWithApplicants("Popular job", 600);
+
+        long smallStatements = statementsFor(small);
+        long popularStatements = statementsFor(popular);
+
+        assertThat(popularStatements).isEqualTo(smallStatements);
+        // job lookup + one page select + one count (the admin comes from the principal, not the database)
+        assertThat(popularStatements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void applicationsArePagedNewestFirst() throws Exception {
+        Job job = jobWithApplicants("Paged job", 3);
+
+        mockMvc.perform(get("/admin/view-applications/{id}", job.getId()).param("size", "2").with(user(principal())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("applicant-2")))
+                .andExpect(content().string(org.hamcrest.Matchers.not(org.hamcrest.Matchers.containsString("applicant-0<"))))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Page 1 of 2")));
+    }
+
+    @Test
+    void jobLookupsAreServedFromTheSecondLevelCache() throws Exception {
+        Job job = jobWithApplicants("Cached job", 3);
+        statementsFor(job);
+        applicationCountService.rebuildCounts(); // Native counter inserts name their table, the job stays cached
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/admin/view-applications/{id}", job.getId()).with(user(principal())))
+                .andExpect(status().isOk());
+        // Only the page select (no count for a partial first page), the job and its poster came from memory
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "job").tag("result", "hit").functionCounter().count())
+                .isPositive();
+        assertThat(meterRegistry.get("portal.entity.cache.hit.ratio").tag("cache", "job").gauge().value()).isPositive();
+    }
+
+    @Test
+    void postingAJobInvalidatesCachedJobLists() throws Exception {
+        jobWithApplicants("Existing job", 0);
+        assertThat(jobRepository.findByPostedBy(admin)).hasSize(1);
+        assertThat(jobRepository.findByPostedBy(admin)).hasSize(1); // Answered by the query cache
+
+        mockMvc.perform(post("/admin/add-job").param("title", "Fresh job").param("location", "Pune")
+                        .with(csrf()).with(user(principal())))
+                .andExpect(redirectedUrl("/admin/dashboard"));
+
+        assertThat(jobRepository.findByPostedBy(admin)).extracting(Job::getTitle)
+                .containsExactlyInAnyOrder("Existing job", "Fresh job");
+    }
+
+    @Test
+    void dashboardShowsApplicationCountsFromOneQuery() throws Exception {
+        jobWithApplicants("Counted job", 25);
+        jobWithApplicants("Quiet job", 0);
+        applicationCountService.rebuildCounts(); // The fixture inserts applications directly, not through the writer
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/admin/dashboard").with(user(principal())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("<td class=\"count\">25</td>")))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Quiet job")));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exportStreamsEveryApplicationAsCsvOrNdjson() throws Exception {
+        Job job = jobWithApplicants("Export job", 1200);
+
+        String csv = export(job, "csv");
+        String[] csvLines = csv.split("\r\n");
+        assertThat(csvLines[0]).isEqualTo("id,applicant,applied_at,cover_letter");
+        assertThat(csvLines).hasSize(1201);
+        assertThat(csvLines[1]).contains(",Export-job-applicant-0,");
+
+        String ndjson = export(job, "ndjson");
+        String[] jsonLines = ndjson.split("\n");
+        assertThat(jsonLines).hasSize(1200);
+        assertThat(jsonLines[1199]).contains("\"applicant\":\"Export-job-applicant-1199\"");
+    }
+
+    @Test
+    void exportIsOnlyAllowedForTheAdminWhoPostedTheJob() throws Exception {
+        Job job = jobWithApplicants("Someone else's job", 1);
+        User otherAdmin = userRepository.save(newUser("other-recruiter", Role.ROLE_ADMIN));
+        AuthenticatedUser other = new AuthenticatedUser(otherAdmin.getId(), otherAdmin.getUsername(),
+                otherAdmin.getPassword(), Role.ROLE_ADMIN);
+
+        mockMvc.perform(get("/admin/view-applications/{id}/export", job.getId()).with(user(other)))
+                .andExpect(status().isFound())
+                .andExpect(redirectedUrl("http://localhost/admin/dashboard?error=unauthorized"));
+        mockMvc.perform(get("/portal/admin/view-applications/{id}/export", job.getId()).contextPath("/portal")
+                        .with(user(other)))
+                .andExpect(redirectedUrl("http://localhost/portal/admin/dashboard?error=unauthorized"));
+    }
+
+    @Test
+    void newApplicationsArePushedToTheOwnerWithoutHoldingAConnection() throws Exception {
+        Job job = jobWithApplicants("Live job", 0);
+        User applicant = userRepository.save(newUser("live-applicant", Role.ROLE_USER));
+
+        MvcResult stream = mockMvc.perform(get("/admin/view-applications/{id}/events", job.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM).with(user(principal())))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andReturn();
+        // The ownership check's connection went back to the pool; an open stream costs no connection
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections()).isZero();
+
+        submissionService.submit(job.getId(), applicant.getId(), applicant.getUsername(), "Hello");
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!stream.getResponse().getContentAsString().contains("live-applicant") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        String body = stream.getResponse().getContentAsString();
+        assertThat(body).contains("event:application").contains("\"applicantUsername\":\"live-applicant\"");
+        assertThat(body).doesNotContain("Hello"); // Cover letters stay on the applications page
+        assertThat(stream.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Test
+    void liveFeedIsOnlyOpenToTheAdminWhoPostedTheJob() throws Exception {
+        Job job = jobWithApplicants("Watched job", 0);
+        User otherAdmin = userRepository.save(newUser("watching-recruiter", Role.ROLE_ADMIN));
+        AuthenticatedUser other = new AuthenticatedUser(otherAdmin.getId(), otherAdmin.getUsername(),
+                otherAdmin.getPassword(), Role.ROLE_ADMIN);
+
+        mockMvc.perform(get("/admin/view-applications/{id}/events", job.getId()).with(user(other)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/view-applications/{id}/events", Long.MAX_VALUE).with(user(principal())))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void importedJobsArePostedByTheAdminAndListedRightAway() throws Exception {
+        StringBuilder csv = new StringBuilder("title,description,location\n");
+        for (int i = 0; i < 1200; i++) {
+            csv.append("Imported job ").append(i).append(",Description ").append(i).append(",Kochi\n");
+        }
+        csv.append(",no title,Kochi\n");
+        MockMultipartFile file = new MockMultipartFile("file", "jobs.csv", "text/csv", csv.toString().getBytes());
+
+        mockMvc.perform(multipart("/admin/import-jobs").file(file).with(csrf()).with(user(principal())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Imported: <strong>1200</strong>")))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("<td>1202</td>")));
+
+        assertThat(jobRepository.findByPostedBy(admin)).hasSize(1200);
+        assertThat(jobService.listJobs(null, null, "Kochi").getJobs().get(0).getTitle()).isEqualTo("Imported job 1199");
+    }
+
+    private String export(Job job, String format) throws Exception {
+        MvcResult started = mockMvc.perform(get("/admin/view-applications/{id}/export", job.getId())
+                        .param("format", format).with(user(principal())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        org.hamcrest.Matchers.containsString("applications-job-" + job.getId() + "." + format)))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private long statementsFor(Job job) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/admin/view-applications/{id}", job.getId()).with(user(principal())))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private AuthenticatedUser principal() {
+        return new AuthenticatedUser(admin.getId(), admin.getUsername(), admin.getPassword(), Role.ROLE_ADMIN);
+    }
+
+    private Job jobWithApplicants(String title, int applicants) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setPostedBy(admin);
+        job = jobRepository.save(job);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < applicants; i++) {
+            users.add(newUser(title.replace(' ', '-') + "-applicant-" + i, Role.ROLE_USER));
+        }
+        users = userRepository.saveAll(users);
+
+        List<Application> applications = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < applicants; i++) {
+            Application application = new Application();
+            application.setJob(job);
+            application.setApplicant(users.get(i));
+            application.setApplicationDate(start.plusMinutes(i));
+            applications.add(application);
+        }
+        applicationRepository.saveAll(applications);
+        return job;
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,105 @@
+package com.telusko.jobportal.controller;
+
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void loginRehashesPasswordsStoredWithAnOldCost() throws Exception {
+        User user = new User();
+        user.setUsername("old-hash");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        user.setRole(Role.ROLE_USER);
+        userRepository.save(user);
+
+        mockMvc.perform(formLogin("/do-login").user("old-hash").password("secret"))
+                .andExpect(redirectedUrl("/user/dashboard"));
+
+        String stored = userRepository.findByUsername("old-hash").orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("secret", stored)).isTrue();
+    }
+
+    @Test
+    void registrationInvalidatesCachedUsernameLookups() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertThat(userRepository.findByUsername("newcomer")).isEmpty();
+
+        // The negative answer is now cached: no SQL for the repeat lookup
+        statistics.clear();
+        assertThat(userRepository.findByUsername("newcomer")).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // The registration URLs fall under anyRequest().authenticated() in SecurityConfig, hence the visitor
+        mockMvc.perform(post("/register-user").param("username", "newcomer").param("password", "secret")
+                        .with(csrf()).with(user("visitor")))
+                .andExpect(redirectedUrl("/login-user?registered"));
+
+        assertThat(userRepository.findByUsername("newcomer")).isPresent();
+        mockMvc.perform(post("/register-admin").param("username", "newcomer").param("password", "other")
+                        .with(csrf()).with(user("visitor")))
+                .andExpect(redirectedUrl("/register-admin?error=exists"));
+        mockMvc.perform(formLogin("/do-login").user("newcomer").password("secret"))
+                .andExpect(redirectedUrl("/user/dashboard"));
+    }
+
+    @Test
+    void repeatLoginsReadTheUserFromTheCache() throws Exception {
+        User user = new User();
+        user.setUsername("regular");
+        user.setPassword(passwordEncoder.encode("secret"));
+        user.setRole(Role.ROLE_USER);
+        userRepository.save(user);
+        mockMvc.perform(formLogin("/do-login").user("regular").password("secret"))
+                .andExpect(redirectedUrl("/user/dashboard"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(formLogin("/do-login").user("regular").password("secret"))
+                .andExpect(redirectedUrl("/user/dashboard"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
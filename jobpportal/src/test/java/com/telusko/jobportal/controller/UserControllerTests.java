@@ -0,0 +1,294 @@
+package com.telusko.jobportal.controller;
+
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.PostingAge;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.ApplicationSubmissionService;
+import com.telusko.jobportal.service.AuthenticatedUser;
+import com.telusko.jobportal.service.JobFilterService;
+import com.telusko.jobportal.service.JobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobFilterService jobFilterService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private Clock clock; // Real time unless a test moves it
+
+    private User admin;
+    private AuthenticatedUser applicant;
+    private final MockHttpSession session = new MockHttpSession();
+
+    @BeforeEach
+    void createUsers() {
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        when(clock.instant()).thenAnswer(invocation -> Instant.now());
+        admin = userRepository.save(newUser("etag-recruiter", Role.ROLE_ADMIN));
+        User saved = userRepository.save(newUser("etag-applicant", Role.ROLE_USER));
+        applicant = new AuthenticatedUser(saved.getId(), saved.getUsername(), saved.getPassword(), Role.ROLE_USER);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void unchangedListingIsAnsweredWith304WithoutQueriesUntilAJobIsPosted() throws Exception {
+        postJob("First conditional job");
+        MvcResult first = mockMvc.perform(get("/user/view-jobs").session(session).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertThat(etag).startsWith("W/\"");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/user/view-jobs").session(session).header("If-None-Match", etag).with(user(applicant)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        postJob("Second conditional job");
+        MvcResult changed = mockMvc.perform(get("/user/view-jobs").session(session).header("If-None-Match", etag)
+                        .with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Second conditional job")))
+                .andReturn();
+        assertThat(changed.getResponse().getHeader("ETag")).isNotEqualTo(etag);
+    }
+
+    @Test
+    void listingIsNotAnswered304AfterMidnightBecausePostingAgesMoved() throws Exception {
+        postJob("Midnight job", "Chennai", null);
+        MvcResult today = mockMvc.perform(get("/user/view-jobs").param("posted", PostingAge.TODAY.name())
+                        .session(session).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Midnight job")))
+                .andReturn();
+        String etag = today.getResponse().getHeader("ETag");
+        String lastModified = today.getResponse().getHeader("Last-Modified");
+
+        // The next day, with no job saved in between
+        Instant tomorrow = LocalDate.now().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().plusSeconds(60);
+        when(clock.instant()).thenReturn(tomorrow);
+        MvcResult nextDay = mockMvc.perform(get("/user/view-jobs").param("posted", PostingAge.TODAY.name())
+                        .session(session).header("If-None-Match", etag).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("Midnight job"))))
+                .andReturn();
+        assertThat(nextDay.getResponse().getHeader("ETag")).isNotEqualTo(etag);
+        mockMvc.perform(get("/user/view-jobs").session(session).header("If-Modified-Since", lastModified)
+                        .with(user(applicant)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/user/view-jobs").param("posted", PostingAge.TODAY.name()).session(session)
+                        .header("If-None-Match", nextDay.getResponse().getHeader("ETag")).with(user(applicant)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void listingRenderedWhileTheFacetIndexLoadsIsRevalidatedOnceItHasLoaded() throws Exception {
+        postJob("Facet loading job");
+        ReflectionTestUtils.setField(jobFilterService, "ready", false); // As during the startup load
+        MvcResult loading = mockMvc.perform(get("/user/view-jobs").session(session).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = loading.getResponse().getHeader("ETag");
+        mockMvc.perform(get("/user/view-jobs").session(session).header("If-None-Match", etag).with(user(applicant)))
+                .andExpect(status().isOk());
+
+        jobFilterService.loadIndex();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!jobFilterService.isReady()) {
+            assertThat(System.nanoTime()).as("facet index not loaded in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        MvcResult loaded = mockMvc.perform(get("/user/view-jobs").session(session).header("If-None-Match", etag)
+                        .with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Facet loading job")))
+                .andReturn();
+        String loadedEtag = loaded.getResponse().getHeader("ETag");
+        assertThat(loadedEtag).isNotEqualTo(etag);
+        mockMvc.perform(get("/user/view-jobs").session(session).header("If-None-Match", loadedEtag).with(user(applicant)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void applyFormHonoursIfModifiedSinceAndIsNotSharedAcrossSessions() throws Exception {
+        Job job = postJob("Conditional apply job");
+        MvcResult first = mockMvc.perform(get("/user/apply/{id}", job.getId()).session(session).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Conditional apply job")))
+                .andReturn();
+        String lastModified = first.getResponse().getHeader("Last-Modified");
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/user/apply/{id}", job.getId()).session(session).header("If-Modified-Since", lastModified)
+                        .with(user(applicant)))
+                .andExpect(status().isNotModified());
+        // Another session has another CSRF token in the form, so it gets a fresh page
+        mockMvc.perform(get("/user/apply/{id}", job.getId()).session(new MockHttpSession())
+                        .header("If-None-Match", etag).with(user(applicant)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void overLongCoverLetterShowsTheFormAgainWithTheText() throws Exception {
+        Job job = postJob("Long letter job");
+        String letter = "Dear recruiter, " + "x".repeat(ApplicationSubmissionService.MAX_COVER_LETTER_BYTES);
+        mockMvc.perform(post("/user/apply/{id}", job.getId()).param("coverLetter", letter)
+                        .with(user(applicant)).with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Your cover letter is too long")))
+                .andExpect(content().string(containsString("Dear recruiter, xxx")));
+        assertThat(applicationRepository.count()).isZero();
+    }
+
+    @Test
+    void posterAndAgeFiltersIntersectAndFacetsCountTheAlternatives() throws Exception {
+        postJob("Fresh facet job", "Facetville", null);
+        postJob("Other town facet job", "Othertown", null);
+        postJob("Stale facet job", "Facetville", LocalDateTime.now().minusDays(20));
+
+        mockMvc.perform(get("/user/view-jobs").param("postedBy", admin.getId().toString())
+                        .param("posted", PostingAge.LAST_7_DAYS.name()).session(session).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Fresh facet job")))
+                .andExpect(content().string(containsString("Other town facet job")))
+                .andExpect(content().string(not(containsString("Stale facet job"))))
+                // Location counts apply the poster and age filters, the age counts only the poster filter
+                .andExpect(content().string(containsString("Facetville (1)")))
+                .andExpect(content().string(containsString("Othertown (1)")))
+                .andExpect(content().string(containsString("etag-recruiter (2)")))
+                .andExpect(content().string(containsString("Last 7 days (2)")))
+                .andExpect(content().string(containsString("Last 30 days (3)")))
+                .andExpect(content().string(containsString(
+                        "/user/view-jobs?location=Facetville&amp;postedBy=" + admin.getId() + "&amp;posted=LAST_7_DAYS")));
+
+        mockMvc.perform(get("/user/view-jobs").param("postedBy", admin.getId().toString()).param("location", "Facetville")
+                        .session(session).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Fresh facet job")))
+                .andExpect(content().string(containsString("Stale facet job")))
+                .andExpect(content().string(not(containsString("Other town facet job"))));
+    }
+
+    @Test
+    void listingRowsAreRenderedOnceAndReRenderedWhenTheJobChanges() throws Exception {
+        Job job = postJob("Cached row job");
+        String page = mockMvc.perform(get("/user/view-jobs").with(user(applicant)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(page).contains("<span>Cached row job</span>", "href=\"/user/apply/" + job.getId() + "\"");
+        assertThat(page.split("/user/apply/" + job.getId() + "\"", -1)).hasSize(2);
+        assertThat(page).doesNotContain("Job Title"); // The fragment's own markup is not on the page
+
+        // The same page again: every row comes from the cache
+        double hits = rowCacheHits();
+        String again = mockMvc.perform(get("/user/view-jobs").with(user(applicant)))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(again).contains("<span>Cached row job</span>");
+        assertThat(rowCacheHits()).isEqualTo(hits + again.split("/user/apply/", -1).length - 1);
+
+        job.setTitle("Renamed row job");
+        jobService.postJob(job);
+        mockMvc.perform(get("/user/view-jobs").with(user(applicant)))
+                .andExpect(content().string(containsString("<span>Renamed row job</span>")))
+                .andExpect(content().string(not(containsString("Cached row job"))));
+    }
+
+    private double rowCacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "job-rows").tag("result", "hit").functionCounter().count();
+    }
+
+    private Job postJob(String title) {
+        return postJob(title, "Chennai", null);
+    }
+
+    private Job postJob(String title, String location, LocalDateTime postedAt) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setDescription("Description of " + title);
+        job.setLocation(location);
+        job.setPostedBy(admin);
+        job.setPostedAt(postedAt);
+        return jobService.postJob(job);
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
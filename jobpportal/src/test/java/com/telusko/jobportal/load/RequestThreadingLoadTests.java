@@ -0,0 +1,162 @@
+package com.telusko.jobportal.load;
+
+import com.telusko.jobportal.JobpportalApplication;
+import com.telusko.jobportal.config.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Throughput / p99 comparison of platform vs virtual request threads (run with mvn test -Pload-test)
+// The endpoint mimics a portal request: a short query, then ~50 ms of blocking I/O without a connection.
+// Tomcat is capped at 20 platform threads (at most 400 req/s), 200 clients hammer it for a few seconds in
+// each mode. The numbers are printed; the speed-up is only asserted on a machine with a few spare cores,
+// on one or two CPUs both modes are CPU-bound and the comparison is noise.
+@Tag("load")
+class RequestThreadingLoadTests {
+
+    private static final int CLIENTS = 200;
+    private static final long RUN_MILLIS = 5_000;
+    private static final long BLOCKING_MILLIS = 50;
+
+    @Test
+    void virtualThreadsServeMoreRequestsThanThePlatformPool() throws Exception {
+        Result platform = run(false);
+        System.out.println("platform threads: " + platform);
+
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need a Java 21 runtime");
+        Result virtual = run(true);
+        System.out.println("virtual threads:  " + virtual);
+
+        assertThat(platform.errors).isZero();
+        assertThat(virtual.errors).isZero();
+        if (Runtime.getRuntime().availableProcessors() >= 4) {
+            assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+            assertThat(virtual.p99Nanos).isLessThan(platform.p99Nanos);
+        }
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JobpportalApplication.class, LoadEndpoints.class)
+                .profiles("test")
+                .run( // Command-line arguments, so they win over application.properties
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=20",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER",
+                        "--spring.datasource.hikari.maximum-pool-size=10")) {
+            if (virtualThreads) {
+                assertThat(context.getBean("primaryDataSource")).isInstanceOf(ConnectionLimitingDataSource.class);
+            }
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return drive(URI.create("http://localhost:" + port + "/load-test/work"));
+        }
+    }
+
+    private Result drive(URI uri) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - sent);
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(RUN_MILLIS + 30_000, TimeUnit.MILLISECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return new Result(sorted.size(), errors.get(), elapsed, p99);
+    }
+
+    private record Result(int requests, int errors, long elapsedNanos, long p99Nanos) {
+
+        double throughput() {
+            return requests / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, %.0f req/s, p99 %.1f ms, %d errors",
+                    requests, throughput(), p99Nanos / 1e6, errors);
+        }
+    }
+
+    // Test-only endpoint, open to anonymous clients
+    @TestConfiguration
+    static class LoadEndpoints {
+
+        @Bean
+        @Order(0)
+        SecurityFilterChain loadTestSecurity(HttpSecurity http) throws Exception {
+            http.securityMatcher("/load-test/**").authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+            return http.build();
+        }
+
+        @Bean
+        WorkController workController(JdbcTemplate jdbcTemplate) {
+            return new WorkController(jdbcTemplate);
+        }
+    }
+
+    @RestController
+    static class WorkController {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        WorkController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/load-test/work")
+        String work() throws InterruptedException {
+            Long jobs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job", Long.class);
+            Thread.sleep(BLOCKING_MILLIS); // Downstream call / rendering, no connection held
+            return String.valueOf(jobs);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.telusko.jobportal.model;
+
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import com.telusko.jobportal.service.AuthenticatedUser;
+import com.telusko.jobportal.service.JobService;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LargeTextColumnTests {
+
+    private static final String LONG_TEXT = "We are hiring a backend engineer to work on the job portal. ".repeat(100);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User admin;
+
+    @BeforeEach
+    void createAdmin() {
+        admin = userRepository.save(newUser("text-recruiter", Role.ROLE_ADMIN));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void longTextIsStoredCompressedAndShortTextAsPlainUtf8() {
+        Job longJob = postJob("Long description", LONG_TEXT);
+        Job shortJob = postJob("Short description", "Remote, Java, Spring");
+
+        byte[] longStored = storedDescription(longJob.getId());
+        assertThat(CompressedTextConverter.isCompressed(longStored)).isTrue();
+        assertThat(longStored.length).isLessThan(LONG_TEXT.length() / 10);
+        assertThat(storedDescription(shortJob.getId())).isEqualTo("Remote, Java, Spring".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(jobRepository.findDetailsById(longJob.getId())).get()
+                .extracting(JobDetails::getDescription).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    void rowsWrittenBeforeCompressionReadBackUnchanged() {
+        Job job = postJob("Migrated job", null);
+        String text = "Written as TEXT before V4, ünïcödé included. ".repeat(20);
+        jdbcTemplate.update("UPDATE job SET description = ? WHERE id = ?", text.getBytes(StandardCharsets.UTF_8), job.getId());
+
+        assertThat(jobRepository.findDetailsById(job.getId())).get().extracting(JobDetails::getDescription).isEqualTo(text);
+    }
+
+    @Test
+    void entityLoadsLeaveTheTextColumnsUnread() {
+        Job job = postJob("Lazy job", LONG_TEXT);
+        User applicant = userRepository.save(newUser("text-applicant", Role.ROLE_USER));
+        Application application = new Application();
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setApplicationDate(LocalDateTime.now());
+        application.setCoverLetter(LONG_TEXT);
+        applicationRepository.save(application);
+
+        assertThat(Hibernate.isPropertyInitialized(jobRepository.findById(job.getId()).orElseThrow(), "description")).isFalse();
+        assertThat(Hibernate.isPropertyInitialized(applicationRepository.findById(application.getId()).orElseThrow(),
+                "coverLetter")).isFalse();
+    }
+
+    @Test
+    void applyPageShowsTheDescription() throws Exception {
+        Job job = postJob("Apply page job", LONG_TEXT);
+        AuthenticatedUser applicant = new AuthenticatedUser(admin.getId() + 1, "text-applicant", "{noop}secret", Role.ROLE_USER);
+
+        mockMvc.perform(get("/user/apply/{id}", job.getId()).with(user(applicant)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(LONG_TEXT.trim())))
+                .andExpect(content().string(containsString("text-recruiter")));
+    }
+
+    private Job postJob(String title, String description) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation("Pune");
+        job.setPostedBy(admin);
+        return jobService.postJob(job);
+    }
+
+    private byte[] storedDescription(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT description FROM job WHERE id = ?", byte[].class, jobId);
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,175 @@
+package com.telusko.jobportal.service;
+
+import com.telusko.jobportal.event.ApplicationsSavedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationEventHubTests {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final List<TestEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch slowClient; // When set, the next emitter blocks on it for every application
+    private ApplicationEventHub hub;
+
+    @AfterEach
+    void shutDown() {
+        if (slowClient != null) {
+            slowClient.countDown();
+        }
+        hub.destroy();
+    }
+
+    @Test
+    void applicationsAreDeliveredOnlyToSubscribersOfTheirJob() throws Exception {
+        hub = newHub(10);
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        hub.onApplicationsSaved(event(1L, 101L, 102L)); // One buffer slot, two SSE events
+
+        await(() -> emitters.get(0).applicationIds.size() == 2 && emitters.get(1).applicationIds.size() == 2);
+        assertThat(emitters.get(0).applicationIds).containsExactly(101L, 102L);
+        assertThat(emitters.get(1).applicationIds).containsExactly(101L, 102L);
+        assertThat(emitters.get(2).applicationIds).isEmpty();
+    }
+
+    @Test
+    void slowSubscriberIsDisconnectedWithoutHoldingUpTheOthers() throws Exception {
+        hub = newHub(10);
+        slowClient = new CountDownLatch(1);
+        hub.subscribe(1L); // Blocks on its first application
+        slowClient = null;
+        hub.subscribe(1L);
+
+        TestEmitter slow = emitters.get(0);
+        TestEmitter fast = emitters.get(1);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 3 * BUFFER_SIZE; id++) {
+            ids.add(id);
+            hub.onApplicationsSaved(event(1L, id)); // Returns right away even though one client is stuck
+            await(() -> fast.applicationIds.size() == ids.size());
+        }
+
+        assertThat(fast.applicationIds).containsExactlyElementsOf(ids);
+        assertThat(hub.droppedSlowCount()).isEqualTo(1);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+
+        slow.release.countDown();
+        await(() -> slow.completed);
+        assertThat(slow.applicationIds).hasSizeLessThanOrEqualTo(1); // Nothing more is sent once it was dropped
+        assertThat(fast.completed).isFalse();
+    }
+
+    @Test
+    void subscriptionsBeyondTheLimitAreRefused() {
+        hub = newHub(2);
+
+        assertThat(hub.subscribe(1L)).isPresent();
+        assertThat(hub.subscribe(2L)).isPresent();
+        assertThat(hub.subscribe(3L)).isEmpty();
+
+        emitters.get(0).completeWithError(new IOException("client went away"));
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(hub.subscribe(3L)).isPresent();
+    }
+
+    private ApplicationEventHub newHub(int maxSubscribers) {
+        return new ApplicationEventHub(new SimpleMeterRegistry(), BUFFER_SIZE, maxSubscribers, 60_000, 3_600, 2) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                TestEmitter emitter = new TestEmitter(timeoutMillis, slowClient);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static ApplicationsSavedEvent event(Long jobId, Long... applicationIds) {
+        List<ApplicationsSavedEvent.SavedApplication> applications = new ArrayList<>();
+        for (Long id : applicationIds) {
+            applications.add(new ApplicationsSavedEvent.SavedApplication(id, jobId, "applicant-" + id, LocalDateTime.now()));
+        }
+        return new ApplicationsSavedEvent(applications);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    // Records the applications it is sent; a slow one blocks until released
+    // The error/completion callbacks fire directly, as the servlet container would for a dead client
+    private static final class TestEmitter extends SseEmitter {
+
+        private final List<Long> applicationIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+        private final List<Consumer<Throwable>> errorCallbacks = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private TestEmitter(long timeout, CountDownLatch release) {
+            super(timeout);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof ApplicationsSavedEvent.SavedApplication application) {
+                    if (release != null) {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    applicationIds.add(application.getId());
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completionCallbacks.add(callback);
+        }
+
+        @Override
+        public synchronized void onError(Consumer<Throwable> callback) {
+            errorCallbacks.add(callback);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            completionCallbacks.forEach(Runnable::run);
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            completed = true;
+            errorCallbacks.forEach(callback -> callback.accept(ex));
+            completionCallbacks.forEach(Runnable::run);
+        }
+    }
+}
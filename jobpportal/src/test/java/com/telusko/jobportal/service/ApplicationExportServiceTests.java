@@ -0,0 +1,193 @@
+package com.telusko.jobportal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telusko.jobportal.model.Application;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationExportServiceTests {
+
+    // More than two fetch batches of ApplicationRepository.streamSummariesByJobId (fetch size 500)
+    private static final int ROWS = 1_201;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    @Autowired
+    private ApplicationExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void csvFieldsAreQuotedAndFormulasAreDefused() {
+        assertThat(ApplicationExportService.csvField(null)).isEmpty();
+        assertThat(ApplicationExportService.csvField("plain")).isEqualTo("plain");
+        assertThat(ApplicationExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(ApplicationExportService.csvField("say \"hi\"\nbye")).isEqualTo("\"say \"\"hi\"\"\nbye\"");
+        assertThat(ApplicationExportService.csvField("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+    }
+
+    @Test
+    void csvExportStreamsEveryApplicationOfTheJobOldestFirst() {
+        List<Application> expected = createApplications();
+        RecordingOutputStream out = new RecordingOutputStream();
+
+        exportService.export(expected.get(0).getJob().getId(), ApplicationExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(ROWS + 1);
+        assertThat(lines[0]).isEqualTo("id,applicant,applied_at,cover_letter");
+        for (int i = 0; i < ROWS; i++) {
+            Application application = expected.get(i);
+            assertThat(lines[i + 1]).startsWith(application.getId() + "," + application.getApplicant().getUsername()
+                    + "," + appliedAt(application) + ",");
+        }
+        Application quoted = expected.stream().filter(a -> a.getCoverLetter().contains(",")).findFirst().orElseThrow();
+        assertThat(lines).contains(quoted.getId() + "," + quoted.getApplicant().getUsername() + ","
+                + appliedAt(quoted) + ",\"Hello, \"\"team\"\"\nThanks\"");
+        // Written in pieces while the rows were still being read, not assembled in memory first
+        assertThat(out.writes).isGreaterThan(1);
+        assertThat(out.writesOutsideTransaction).isZero();
+        assertThat(out.firstWriteSize).isLessThan(out.size() / 4);
+    }
+
+    @Test
+    void ndjsonExportWritesOneObjectPerApplicationInTheSameOrder() throws Exception {
+        List<Application> expected = createApplications();
+        RecordingOutputStream out = new RecordingOutputStream();
+
+        exportService.export(expected.get(0).getJob().getId(), ApplicationExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(ROWS);
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (int i = 0; i < ROWS; i += 100) {
+            JsonNode row = objectMapper.readTree(lines[i]);
+            assertThat(row.get("id").asLong()).isEqualTo(expected.get(i).getId());
+            assertThat(row.get("applicant").asText()).isEqualTo(expected.get(i).getApplicant().getUsername());
+        }
+        assertThat(objectMapper.readTree(lines[ROWS - 1]).get("id").asLong()).isEqualTo(expected.get(ROWS - 1).getId());
+        assertThat(out.writes).isGreaterThan(1);
+        assertThat(out.writesOutsideTransaction).isZero();
+    }
+
+    // ROWS applications for one job, saved newest first with pairs sharing a date (the id breaks the tie),
+    // and one for another job; returns the job's applications in the expected export order
+    private List<Application> createApplications() {
+        User admin = userRepository.save(newUser("export-recruiter", Role.ROLE_ADMIN));
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            applicants.add(newUser("export-applicant-" + i, Role.ROLE_USER));
+        }
+        applicants = userRepository.saveAll(applicants);
+        Job job = jobRepository.save(newJob("Export job", admin));
+        Job otherJob = jobRepository.save(newJob("Other export job", admin));
+
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            String letter = i == ROWS / 2 ? "Hello, \"team\"\nThanks" : "Letter " + i;
+            applications.add(newApplication(job, applicants.get(i), BASE.plusMinutes((ROWS - i) / 2), letter));
+        }
+        applications = applicationRepository.saveAll(applications);
+        applicationRepository.save(newApplication(otherJob, applicants.get(0), BASE, "Not exported"));
+
+        List<Application> expected = new ArrayList<>(applications);
+        expected.sort(Comparator.comparing(Application::getApplicationDate).thenComparing(Application::getId));
+        assertThat(expected).isNotEqualTo(applications); // Export order differs from insert order
+        return expected;
+    }
+
+    private static String appliedAt(Application application) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(application.getApplicationDate());
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+
+    private static Job newJob(String title, User postedBy) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setPostedBy(postedBy);
+        return job;
+    }
+
+    private static Application newApplication(Job job, User applicant, LocalDateTime date, String coverLetter) {
+        Application application = new Application();
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setApplicationDate(date);
+        application.setCoverLetter(coverLetter);
+        return application;
+    }
+
+    // Collects the output and records how it arrived
+    private static final class RecordingOutputStream extends ByteArrayOutputStream {
+
+        private int writes;
+        private int writesOutsideTransaction;
+        private int firstWriteSize = -1;
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            record(length);
+            super.write(bytes, offset, length);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            record(1);
+            super.write(b);
+        }
+
+        private void record(int length) {
+            writes++;
+            if (firstWriteSize < 0) {
+                firstWriteSize = length;
+            }
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                writesOutsideTransaction++;
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.telusko.jobportal.service;
+
+import com.telusko.jobportal.model.Application;
+import com.telusko.jobportal.model.ApplicationSummary;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.Role;
+import com.telusko.jobportal.model.SubmissionStatus;
+import com.telusko.jobportal.model.JobApplicationCount;
+import com.telusko.jobportal.model.JobApplicationDailyCount;
+import com.telusko.jobportal.repository.ApplicationRepository;
+import com.telusko.jobportal.repository.JobApplicationCountRepository;
+import com.telusko.jobportal.repository.JobApplicationDailyCountRepository;
+import com.telusko.jobportal.repository.JobRepository;
+import com.telusko.jobportal.repository.User;
+import com.telusko.jobportal.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "portal.applications.max-tracked-tickets=1000")
+@ActiveProfiles("test")
+class ApplicationSubmissionServiceTests {
+
+    @Autowired
+    private ApplicationSubmissionService submissionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobApplicationCountRepository countRepository;
+
+    @Autowired
+    private JobApplicationDailyCountRepository dailyCountRepository;
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void queuedApplicationsAreWrittenInBatches() throws Exception {
+        User admin = userRepository.save(newUser("batch-recruiter", Role.ROLE_ADMIN));
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            applicants.add(newUser("batch-applicant-" + i, Role.ROLE_USER));
+        }
+        applicants = userRepository.saveAll(applicants);
+        Job job = new Job();
+        job.setTitle("Batch job");
+        job.setPostedBy(admin);
+        job = jobRepository.save(job);
+
+        List<String> tickets = new ArrayList<>();
+        for (User applicant : applicants) {
+            tickets.add(submissionService.submit(job.getId(), applicant.getId(), applicant.getUsername(), "letter"));
+        }
+
+        for (int i = 0; i < tickets.size(); i++) {
+            assertThat(awaitFinished(tickets.get(i), applicants.get(i).getId())).isEqualTo(SubmissionStatus.SAVED);
+        }
+        assertThat(applicationRepository.count()).isEqualTo(500);
+        // Counters were maintained by the writer, per job and per day
+        assertThat(countRepository.findById(job.getId()).map(JobApplicationCount::getApplicationCount)).contains(500L);
+        Long jobId = job.getId();
+        assertThat(dailyCountRepository.findAll().stream().filter(day -> day.getJobId().equals(jobId))
+                .mapToLong(JobApplicationDailyCount::getApplicationCount).sum()).isEqualTo(500);
+        // Tickets are private to the applicant
+        assertThat(submissionService.status(tickets.get(0), admin.getId())).isNull();
+    }
+
+    @Test
+    void repeatApplicationsAreRefusedInMemoryOrByTheConstraint() throws Exception {
+        User admin = userRepository.save(newUser("repeat-recruiter", Role.ROLE_ADMIN));
+        User applicant = userRepository.save(newUser("repeat-applicant", Role.ROLE_USER));
+        Job job = new Job();
+        job.setTitle("Repeat job");
+        job.setPostedBy(admin);
+        job = jobRepository.save(job);
+        Long jobId = job.getId();
+
+        // Double click: the second submit never reaches the queue
+        String first = submissionService.submit(jobId, applicant.getId(), applicant.getUsername(), null);
+        assertThatThrownBy(() -> submissionService.submit(jobId, applicant.getId(), applicant.getUsername(), null))
+                .isInstanceOf(DuplicateApplicationException.class);
+        assertThat(awaitFinished(first, applicant.getId())).isEqualTo(SubmissionStatus.SAVED);
+
+        // A row the guard has never seen (e.g. written by another instance) is caught by the unique constraint
+        Job other = new Job();
+        other.setTitle("Other job");
+        other.setPostedBy(admin);
+        Long otherId = jobRepository.save(other).getId();
+        Application existing = new Application();
+        existing.setJob(jobRepository.getReferenceById(otherId));
+        existing.setApplicant(applicant);
+        existing.setApplicationDate(LocalDateTime.now());
+        applicationRepository.save(existing);
+
+        String repeat = submissionService.submit(otherId, applicant.getId(), applicant.getUsername(), null);
+        assertThat(awaitFinished(repeat, applicant.getId())).isEqualTo(SubmissionStatus.DUPLICATE);
+        assertThatThrownBy(() -> submissionService.submit(otherId, applicant.getId(), applicant.getUsername(), null))
+                .isInstanceOf(DuplicateApplicationException.class);
+        assertThat(applicationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void applicationForMissingJobIsRejectedWithoutFailingTheBatch() throws Exception {
+        User admin = userRepository.save(newUser("reject-recruiter", Role.ROLE_ADMIN));
+        User applicant = userRepository.save(newUser("reject-applicant", Role.ROLE_USER));
+        Job job = new Job();
+        job.setTitle("Real job");
+        job.setPostedBy(admin);
+        job = jobRepository.save(job);
+
+        String good = submissionService.submit(job.getId(), applicant.getId(), applicant.getUsername(), null);
+        String missing = submissionService.submit(Long.MAX_VALUE, applicant.getId(), applicant.getUsername(), null);
+
+        assertThat(awaitFinished(good, applicant.getId())).isEqualTo(SubmissionStatus.SAVED);
+        assertThat(awaitFinished(missing, applicant.getId())).isEqualTo(SubmissionStatus.REJECTED);
+        assertThat(applicationRepository.count()).isEqualTo(1);
+        // The failed batch rolled its counter updates back with it, the retried good row counted once
+        assertThat(countRepository.findById(job.getId()).map(JobApplicationCount::getApplicationCount)).contains(1L);
+    }
+
+    @Test
+    void overLongCoverLetterIsRefusedBeforeItIsQueued() throws Exception {
+        User admin = userRepository.save(newUser("long-letter-recruiter", Role.ROLE_ADMIN));
+        User applicant = userRepository.save(newUser("long-letter-applicant", Role.ROLE_USER));
+        Job job = new Job();
+        job.setTitle("Long letter job");
+        job.setPostedBy(admin);
+        Long jobId = jobRepository.save(job).getId();
+
+        String tooManyChars = "a".repeat(ApplicationSubmissionService.MAX_COVER_LETTER_BYTES + 1);
+        String tooManyBytes = "\u20ac".repeat(ApplicationSubmissionService.MAX_COVER_LETTER_BYTES / 3 + 1); // 3 bytes each
+        assertThatThrownBy(() -> submissionService.submit(jobId, applicant.getId(), applicant.getUsername(), tooManyChars))
+                .isInstanceOf(CoverLetterTooLongException.class);
+        assertThatThrownBy(() -> submissionService.submit(jobId, applicant.getId(), applicant.getUsername(), tooManyBytes))
+                .isInstanceOf(CoverLetterTooLongException.class);
+
+        // Nothing was reserved, so the shortened letter goes through
+        String longest = "a".repeat(ApplicationSubmissionService.MAX_COVER_LETTER_BYTES);
+        String ticket = submissionService.submit(jobId, applicant.getId(), applicant.getUsername(), longest);
+        assertThat(awaitFinished(ticket, applicant.getId())).isEqualTo(SubmissionStatus.SAVED);
+        assertThat(applicationRepository.findSummariesByJobId(jobId, PageRequest.of(0, 10)).getContent()).singleElement()
+                .extracting(ApplicationSummary::getCoverLetter).isEqualTo(longest);
+    }
+
+    @Test
+    void finishedTicketsAreDroppedEarlyWhenTooManyAreTracked() throws Exception {
+        User admin = userRepository.save(newUser("tickets-recruiter", Role.ROLE_ADMIN));
+        List<User> applicants = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            applicants.add(newUser("tickets-applicant-" + i, Role.ROLE_USER));
+        }
+        applicants = userRepository.saveAll(applicants);
+        Job job = new Job();
+        job.setTitle("Tickets job");
+        job.setPostedBy(admin);
+        Long jobId = jobRepository.save(job).getId();
+
+        // A steady stream keeps the writer busy, so only the size limit can trigger the sweep
+        String last = null;
+        for (User applicant : applicants) {
+            last = submissionService.submit(jobId, applicant.getId(), applicant.getUsername(), null);
+        }
+        assertThat(awaitFinished(last, applicants.get(applicants.size() - 1).getId())).isEqualTo(SubmissionStatus.SAVED);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (submissionService.trackedTickets() > 1000 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(submissionService.trackedTickets()).isLessThanOrEqualTo(1000);
+        assertThat(applicationRepository.count()).isEqualTo(3000);
+    }
+
+    private SubmissionStatus awaitFinished(String ticket, Long applicantId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        SubmissionStatus status = submissionService.status(ticket, applicantId);
+        while (status == SubmissionStatus.QUEUED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            status = submissionService.status(ticket, applicantId);
+        }
+        return status;
+    }
+
+    private static User newUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}secret");
+        user.setRole(role);
+        return user;
+    }
+}
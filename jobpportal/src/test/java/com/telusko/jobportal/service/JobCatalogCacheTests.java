@@ -0,0 +1,117 @@
+package com.telusko.jobportal.service;
+
+import com.telusko.jobportal.event.JobsSavedEvent;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.JobSummary;
+import com.telusko.jobportal.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobCatalogCacheTests {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+
+    @Test
+    void servesPagesInsideTheWindowAndMissesBelowIt() {
+        // 10 jobs in the catalog, only the newest 5 fit in the snapshot
+        when(jobRepository.findSummariesBefore(anyLong(), any(Limit.class))).thenReturn(summaries(10, 1));
+        JobCatalogCache cache = new JobCatalogCache(jobRepository, new SimpleMeterRegistry(), 5);
+        cache.rebuild();
+
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, null, 3).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(10L, 9L, 8L);
+        assertThat(cache.rowsBefore(8L, null, 3)).isEmpty(); // needs job 5, which is outside the window
+        assertThat(cache.rowsAfter(7L, null, 2).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(8L, 9L);
+        assertThat(cache.rowsAfter(3L, null, 2)).isEmpty();
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void savedJobsArePatchedInAndTheOldestRowsEvicted() {
+        when(jobRepository.findSummariesBefore(anyLong(), any(Limit.class))).thenReturn(summaries(3, 1));
+        JobCatalogCache cache = new JobCatalogCache(jobRepository, new SimpleMeterRegistry(), 3);
+        cache.rebuild();
+
+        cache.onJobsSaved(new JobsSavedEvent(List.of(job(4L, "Pune"), job(5L, "Pune"))));
+
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, null, 3).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(5L, 4L, 3L);
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Pune", 3)).isEmpty(); // only 2 Pune rows known, older ones evicted
+        assertThat(cache.rebuildCount()).isEqualTo(1);
+    }
+
+    @Test
+    void locationPagesReadOnlyThatLocationsRows() {
+        List<JobSummary> rows = new ArrayList<>();
+        for (long id = 12; id >= 1; id--) {
+            rows.add(new JobSummary(id, "Job " + id, id % 3 == 0 ? "Pune" : id % 3 == 1 ? "Remote" : null));
+        }
+        when(jobRepository.findSummariesBefore(anyLong(), any(Limit.class))).thenReturn(rows);
+        JobCatalogCache cache = new JobCatalogCache(jobRepository, new SimpleMeterRegistry(), 20);
+        cache.rebuild();
+
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Pune", 3).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(12L, 9L, 6L);
+        assertThat(cache.rowsBefore(6L, "Pune", 3).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(3L);
+        assertThat(cache.rowsAfter(4L, "Remote", 2).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(7L, 10L);
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Nowhere", 3).orElseThrow()).isEmpty(); // Complete snapshot
+
+        cache.onJobsSaved(new JobsSavedEvent(List.of(job(13L, "Pune"))));
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Pune", 2).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(13L, 12L);
+    }
+
+    @Test
+    void locationsSpelledDifferentlyFromTheRowsAreLeftToTheDatabase() {
+        List<JobSummary> rows = new ArrayList<>(List.of(
+                new JobSummary(6L, "Job 6", "Chennai"),
+                new JobSummary(5L, "Job 5", "PUNE"),
+                new JobSummary(4L, "Job 4", "Chennai"),
+                new JobSummary(3L, "Job 3", "Pune"),
+                new JobSummary(2L, "Job 2", "Bengaluru")));
+        when(jobRepository.findSummariesBefore(anyLong(), any(Limit.class))).thenReturn(rows);
+        JobCatalogCache cache = new JobCatalogCache(jobRepository, new SimpleMeterRegistry(), 20);
+        cache.rebuild();
+
+        // MySQL's collation matches these against other spellings too, so only the database can answer
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "chennai", 3)).isEmpty();
+        assertThat(cache.rowsAfter(1L, "CHENNAI", 3)).isEmpty();
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Pune", 3)).isEmpty(); // Stored as "Pune" and "PUNE"
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Bengalúru", 3)).isEmpty();
+        // The only spelling of a location, or one nobody uses, is answered from the snapshot
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Chennai", 3).orElseThrow())
+                .extracting(JobSummary::getId).containsExactly(6L, 4L);
+        assertThat(cache.rowsBefore(Long.MAX_VALUE, "Nowhere", 3).orElseThrow()).isEmpty();
+        assertThat(JobCatalogCache.fold("Bengalúru ")).isEqualTo("bengaluru");
+    }
+
+    private static List<JobSummary> summaries(long newestId, long oldestId) {
+        List<JobSummary> rows = new ArrayList<>();
+        for (long id = newestId; id >= oldestId; id--) {
+            rows.add(new JobSummary(id, "Job " + id, "Remote"));
+        }
+        return rows;
+    }
+
+    private static Job job(Long id, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Job " + id);
+        job.setLocation(location);
+        return job;
+    }
+}
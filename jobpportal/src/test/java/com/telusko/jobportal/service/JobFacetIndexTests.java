@@ -0,0 +1,59 @@
+package com.telusko.jobportal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobFacetIndexTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 20);
+
+    @Test
+    void filtersAreIntersectedAndPagedNewestFirst() {
+        JobFacetIndex index = new JobFacetIndex();
+        for (long id = 1; id <= 100_000; id++) {
+            index.add(id, id % 2 == 0 ? "Pune" : "Chennai", id % 3 == 0 ? 7L : 8L, TODAY.minusDays(id % 40));
+        }
+        JobFacetIndex.Criteria puneBy7 = new JobFacetIndex.Criteria("Pune", 7L, null);
+
+        assertThat(index.count(puneBy7)).isEqualTo(16_666); // Multiples of 6
+        assertThat(index.idsBefore(puneBy7, Long.MAX_VALUE, 3)).containsExactly(99_996L, 99_990L, 99_984L);
+        assertThat(index.idsBefore(puneBy7, 99_984, 2)).containsExactly(99_978L, 99_972L);
+        assertThat(index.idsAfter(puneBy7, 99_984, 5)).containsExactly(99_990L, 99_996L);
+        assertThat(index.idsBefore(puneBy7, 6, 5)).isEmpty();
+
+        // Posted within the last 3 days: id % 40 in {0, 1, 2}, combined with the multiples of 6
+        JobFacetIndex.Criteria recent = new JobFacetIndex.Criteria("Pune", 7L, TODAY.minusDays(2));
+        assertThat(index.idsBefore(recent, Long.MAX_VALUE, 3)).containsExactly(99_960L, 99_882L, 99_840L);
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilter() {
+        JobFacetIndex index = new JobFacetIndex();
+        index.add(1, "Pune", 7L, TODAY);
+        index.add(2, "Pune", 8L, TODAY);
+        index.add(3, "Chennai", 7L, TODAY.minusDays(10));
+        index.add(4, null, 7L, null);
+
+        JobFacetIndex.Criteria criteria = new JobFacetIndex.Criteria("Pune", 7L, null);
+
+        assertThat(index.countByLocation(criteria)).isEqualTo(Map.of("Pune", 1, "Chennai", 1));
+        assertThat(index.countByPoster(criteria)).isEqualTo(Map.of(7L, 1, 8L, 1));
+        assertThat(index.count(new JobFacetIndex.Criteria(null, 7L, TODAY.minusDays(6)))).isEqualTo(1);
+        assertThat(index.count(new JobFacetIndex.Criteria("Mumbai", null, null))).isZero();
+    }
+
+    @Test
+    void reAddingAJobMovesItToItsNewLists() {
+        JobFacetIndex index = new JobFacetIndex();
+        index.add(5, "Pune", 7L, TODAY);
+        index.add(5, "Remote", 7L, TODAY);
+
+        assertThat(index.count(new JobFacetIndex.Criteria("Pune", null, null))).isZero();
+        assertThat(index.countByLocation(new JobFacetIndex.Criteria(null, null, null))).isEqualTo(Map.of("Remote", 1));
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,123 @@
+package com.telusko.jobportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telusko.jobportal.model.Job;
+import com.telusko.jobportal.model.JobImportReport;
+import com.telusko.jobportal.repository.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobImportServiceTests {
+
+    private final JobService jobService = mock(JobService.class);
+    private final List<List<Job>> batches = new ArrayList<>();
+    private final User admin = new User();
+
+    JobImportServiceTests() {
+        when(jobService.postJobs(anyList())).thenAnswer(invocation -> {
+            List<Job> batch = new ArrayList<>(invocation.getArgument(0));
+            batches.add(batch);
+            return batch;
+        });
+    }
+
+    @Test
+    void csvRowsAreImportedInBatchesAndInvalidRowsReportedByLine() throws IOException {
+        StringBuilder csv = new StringBuilder("\uFEFFlocation,title,description\r\n");
+        for (int i = 0; i < 7; i++) {
+            csv.append("Pune,Job ").append(i).append(",\"Line one,\r\nline \"\"two\"\"\"\r\n");
+        }
+        csv.append("Pune,,missing title\r\n"); // line 16
+        csv.append("only,two\r\n"); // line 17
+        csv.append("\r\n");
+        csv.append("Remote,Last job,plain\r\n");
+
+        JobImportReport report = service(3, 10).importJobs(stream(csv), false, admin);
+
+        assertThat(report.getImportedCount()).isEqualTo(8);
+        assertThat(report.getRejectedCount()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getLine).containsExactly(16, 17);
+        assertThat(report.getFailure()).isNull();
+        assertThat(batches).extracting(List::size).containsExactly(3, 3, 2);
+        Job first = batches.get(0).get(0);
+        assertThat(first.getTitle()).isEqualTo("Job 0");
+        assertThat(first.getDescription()).isEqualTo("Line one,\r\nline \"two\"");
+        assertThat(first.getLocation()).isEqualTo("Pune");
+        assertThat(first.getPostedBy()).isSameAs(admin);
+    }
+
+    @Test
+    void ndjsonErrorsAreCappedAndAnUnclosedCsvQuoteStopsTheImport() throws IOException {
+        String ndjson = """
+                {"title": "Java Developer", "location": "Chennai"}
+                not json
+                {"title": 42}
+                []
+                {"description": "no title"}
+                """;
+        JobImportReport report = service(50, 2).importJobs(stream(ndjson), true, admin);
+        assertThat(report.getImportedCount()).isEqualTo(1);
+        assertThat(report.getRejectedCount()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getLine).containsExactly(2, 3);
+        assertThat(report.isErrorsTruncated()).isTrue();
+
+        batches.clear();
+        JobImportReport broken = service(50, 10).importJobs(stream("title\nGood\n\"Never closed\nBad\n"), false, admin);
+        assertThat(broken.getImportedCount()).isEqualTo(1);
+        assertThat(broken.getFailure()).startsWith("Line 3:");
+    }
+
+    @Test
+    void overLongCsvRecordsAreRejectedByLineAndTheReaderStaysInStep() throws IOException {
+        String csv = "title,description\n"
+                + "Short,fine\n"
+                + "Long field,\"" + "x".repeat(30) + "\nstill, \"\"quoted\"\"\"\n" // lines 3-4, field over 20
+                + "Wide," + ",".repeat(60) + "\n" // line 5, record over 50
+                + "After,\"back in step\"\n";
+        JobImportReport report = service(50, 10, 20, 50).importJobs(stream(csv), false, admin);
+
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getLine).containsExactly(3, 5);
+        assertThat(report.getErrors()).extracting(JobImportReport.RowError::getMessage).containsExactly(
+                "a field is longer than 20 characters", "the record is longer than 50 characters");
+        assertThat(report.getFailure()).isNull();
+        assertThat(batches.get(0)).extracting(Job::getTitle).containsExactly("Short", "After");
+        assertThat(batches.get(0).get(1).getDescription()).isEqualTo("back in step");
+    }
+
+    @Test
+    void anUnterminatedQuoteIsReportedWithItsLineWithoutKeepingTheRestOfTheFile() throws IOException {
+        StringBuilder csv = new StringBuilder("title,description\nGood,one\nBroken,\"never closed\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("Job ").append(i).append(",swallowed by the open quote\n");
+        }
+        JobImportReport report = service(50, 10, 100, 1_000).importJobs(stream(csv), false, admin);
+
+        // The open quote runs to the end of the file: read past its limits, then reported where it started
+        assertThat(report.getImportedCount()).isEqualTo(1);
+        assertThat(report.getRejectedCount()).isZero();
+        assertThat(report.getFailure()).isEqualTo("Line 3: a quoted field is never closed. The rest of the file was not imported.");
+    }
+
+    private JobImportService service(int batchSize, int maxReportedErrors) {
+        return service(batchSize, maxReportedErrors, 65_535, 262_144);
+    }
+
+    private JobImportService service(int batchSize, int maxReportedErrors, int maxFieldLength, int maxRecordLength) {
+        return new JobImportService(jobService, new ObjectMapper(), batchSize, maxReportedErrors,
+                maxFieldLength, maxRecordLength);
+    }
+
+    private static ByteArrayInputStream stream(CharSequence content) {
+        return new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.telusko.jobportal.service;
+
+import com.telusko.jobportal.model.JobDocument;
+import com.telusko.jobportal.model.JobSearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTests {
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.add(new JobDocument(1L, "Office Manager", "Coordinate with the Java team", "Pune"));
+        index.add(new JobDocument(2L, "Senior Java Developer", "Spring Boot services", "Bangalore"));
+        index.add(new JobDocument(3L, "Accountant", "Ledgers and tax filings", "Chennai"));
+
+        List<JobSearchResult> results = index.search("java", 10);
+
+        assertThat(results).extracting(JobSearchResult::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void reAddingAJobReplacesItsPreviousVersion() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.add(new JobDocument(7L, "Python Developer", null, "Remote"));
+        index.add(new JobDocument(7L, "Go Developer", null, "Remote"));
+
+        assertThat(index.search("python", 10)).isEmpty();
+        assertThat(index.search("go", 10)).extracting(JobSearchResult::getId).containsExactly(7L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void queriesAreTokenizedLikeDocuments() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.add(new JobDocument(1L, "Data Engineer", "ETL pipelines", "New Delhi"));
+
+        assertThat(index.search("  NEW-delhi!! ", 10)).hasSize(1);
+        assertThat(index.search("the and of", 10)).isEmpty();
+    }
+
+    @Test
+    void accumulatesScoresAcrossTermsForManyMatchingDocs() {
+        JobSearchIndex index = new JobSearchIndex();
+        for (long id = 1; id <= 5_000; id++) {
+            // Every job matches "java"; one in ten also matches "spring" and outranks the rest
+            index.add(new JobDocument(id, id % 10 == 0 ? "Java Spring Developer" : "Java Developer", null, null));
+        }
+
+        List<JobSearchResult> hits = index.search("java spring", 3);
+        assertThat(hits).extracting(JobSearchResult::getId).containsExactly(5_000L, 4_990L, 4_980L);
+        // "java" alone: the shorter titles win, ties go to the newer job
+        assertThat(index.search("java", 2)).extracting(JobSearchResult::getId).containsExactly(4_999L, 4_998L);
+    }
+}
@@ -0,0 +1,51 @@
+package com.telusko.jobportal.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTests {
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void shutDown() {
+        service.destroy();
+    }
+
+    @Test
+    void hashesAndChecksPasswordsAndFlagsOtherCosts() {
+        service = new PasswordHashingService(5, 2, 4, new SimpleMeterRegistry());
+
+        String hash = service.encode("secret");
+
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("wrong", hash)).isFalse();
+        assertThat(service.upgradeEncoding(hash)).isFalse();
+        assertThat(service.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(service.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isTrue();
+    }
+
+    @Test
+    void failsFastWhenThePoolAndQueueAreFull() throws Exception {
+        service = new PasswordHashingService(14, 1, 1, new SimpleMeterRegistry());
+        // One slow hash running, one waiting in the queue
+        Thread running = new Thread(() -> service.encode("first"));
+        running.setDaemon(true);
+        running.start();
+        Thread.sleep(100);
+        Thread queued = new Thread(() -> service.encode("second"));
+        queued.setDaemon(true);
+        queued.start();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (service.queueDepth() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> service.encode("third")).isInstanceOf(PasswordHashingBusyException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.telusko.jobportal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedLongSetTests {
+
+    @Test
+    void behavesLikeASetUnderRandomAddsAndRemoves() {
+        StripedLongSet set = new StripedLongSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            // Packed (job, applicant) style keys from a small range, so adds, repeats and removes all happen often
+            long value = ((long) (1 + random.nextInt(50)) << 32) | (1 + random.nextInt(2_000));
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value : expected) {
+            assertThat(set.contains(value)).isTrue();
+        }
+    }
+
+    @Test
+    void packsJobAndApplicantIdsAndSkipsIdsThatDoNotFit() {
+        assertThat(ApplicationDuplicateGuard.pack(3L, 7L)).isEqualTo((3L << 32) | 7L);
+        assertThat(ApplicationDuplicateGuard.pack(1L << 32, 7L)).isZero();
+        assertThat(ApplicationDuplicateGuard.pack(3L, null)).isZero();
+    }
+}
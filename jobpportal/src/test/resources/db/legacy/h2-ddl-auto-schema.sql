@@ -0,0 +1,24 @@
+-- A database as the portal left it before migrations were introduced: tables created by Hibernate's
+-- ddl-auto=update from the original entities (IDENTITY ids, TEXT columns), and some data, including a
+-- repeated application from a double click. Used by LegacySchemaMigrationTests.
+
+create table application (applicant_id bigint not null, application_date timestamp(6) not null, id bigint generated by default as identity, job_id bigint not null, cover_letter TEXT, primary key (id));
+create table job (id bigint generated by default as identity, posted_by_id bigint not null, description TEXT, location varchar(255), title varchar(255) not null, primary key (id));
+create table user (id bigint generated by default as identity, password varchar(255) not null, role varchar(255) not null check (role in ('ROLE_ADMIN','ROLE_USER')), username varchar(255) not null, primary key (id));
+alter table if exists user drop constraint if exists UK_sb8bbouer5wak8vyiiy4pf2bx;
+alter table if exists user add constraint UK_sb8bbouer5wak8vyiiy4pf2bx unique (username);
+alter table if exists application add constraint FK1vur8fl2uitglu5w2wbix94fi foreign key (applicant_id) references user;
+alter table if exists application add constraint FKls6sryk64ga8o5t4bym8qu3vm foreign key (job_id) references job;
+alter table if exists job add constraint FKepwxoimy9stpqdbebngwnptk9 foreign key (posted_by_id) references user;
+
+insert into user (username, password, role) values ('legacy-recruiter', '{noop}secret', 'ROLE_ADMIN');
+insert into user (username, password, role) values ('legacy-applicant', '{noop}secret', 'ROLE_USER');
+insert into user (username, password, role) values ('legacy-other-applicant', '{noop}secret', 'ROLE_USER');
+
+insert into job (title, description, location, posted_by_id) values ('Legacy job', 'Written as TEXT', 'Chennai', 1);
+insert into job (title, description, location, posted_by_id) values ('Other legacy job', null, 'Pune', 1);
+
+insert into application (job_id, applicant_id, application_date, cover_letter) values (1, 2, '2024-05-01 10:00:00', 'First letter');
+insert into application (job_id, applicant_id, application_date, cover_letter) values (1, 2, '2024-05-01 10:00:01', 'Double click');
+insert into application (job_id, applicant_id, application_date, cover_letter) values (1, 3, '2024-05-02 09:30:00', null);
+insert into application (job_id, applicant_id, application_date, cover_letter) values (2, 2, '2024-05-03 16:45:00', null);